@@ -0,0 +1,38 @@
+package perform;
+
+import domain.Event;
+import domain.Lokaal;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Lokaal lokaal() {
+        Lokaal lokaal = new Lokaal();
+        lokaal.setId(1L);
+        lokaal.setNaam("A101");
+        lokaal.setCapaciteit(50);
+        return lokaal;
+    }
+
+    static Event event(long id, String naam, LocalDateTime datumTijd) {
+        Event event = new Event();
+        event.setId(id);
+        event.setNaam(naam);
+        event.setBeschrijving("Introductie tot Spring Boot framework");
+        event.setSprekers(new ArrayList<>(List.of("Jan Janssens", "Marie Curie")));
+        event.setLokaal(lokaal());
+        event.setDatumTijd(datumTijd);
+        event.setDuurMinuten(90);
+        event.setBeamerCode(1234);
+        event.setBeamerCheck(27);
+        event.setPrijs(new BigDecimal("19.99"));
+        return event;
+    }
+}
@@ -0,0 +1,47 @@
+package perform;
+
+import domain.Event;
+import domain.User;
+import org.openjdk.jmh.annotations.*;
+import service.UserServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sortering van {@link UserServiceImpl#getFavorieten} bij elke weergave van de favorietenpagina.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FavorietenBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int aantalFavorieten;
+
+    private UserServiceImpl userService;
+    private User user;
+
+    @Setup
+    public void setup() {
+        // Repository en transacties worden niet aangesproken door getFavorieten.
+        userService = new UserServiceImpl(null, 1, null);
+        user = new User();
+        user.setUsername("user");
+        Random random = new Random(42);
+        for (int i = 0; i < aantalFavorieten; i++) {
+            LocalDateTime datumTijd = LocalDateTime.of(2025, 6, 1 + random.nextInt(30), 8 + random.nextInt(10), 0);
+            user.getFavorieten().add(BenchmarkData.event(i, "Sessie " + random.nextInt(1000), datumTijd));
+        }
+    }
+
+    @Benchmark
+    public List<Event> getFavorieten() {
+        return userService.getFavorieten(user);
+    }
+}
@@ -0,0 +1,44 @@
+package perform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.Event;
+import domain.EventWeergave;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON-serialisatie zoals de REST-API ze doet: de entiteit {@link Event} en het leesmodel {@link EventWeergave}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SerialisatieBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private EventWeergave weergave;
+
+    @Setup
+    public void setup() {
+        // Zelfde configuratie als de ObjectMapper die Spring Boot voor de controllers bouwt.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        event = BenchmarkData.event(1L, "Spring Boot Introductie", LocalDateTime.of(2025, 6, 10, 10, 0));
+        weergave = EventWeergave.van(event);
+    }
+
+    @Benchmark
+    public byte[] event() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventWeergave() throws Exception {
+        return objectMapper.writeValueAsBytes(weergave);
+    }
+}
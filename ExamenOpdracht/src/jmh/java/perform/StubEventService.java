@@ -0,0 +1,95 @@
+package perform;
+
+import domain.Event;
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventTijdslot;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import domain.SprekerProgramma;
+import service.EventService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Vaste antwoorden voor de twee opzoekingen die {@code EventValidatorAdvice} doet, zodat de benchmark enkel de
+ * validatielogica meet en geen databank.
+ */
+class StubEventService implements EventService {
+
+    private final EventTijdslot conflict;
+    private final List<Event> zelfdeNaam;
+
+    StubEventService(EventTijdslot conflict, List<Event> zelfdeNaam) {
+        this.conflict = conflict;
+        this.zelfdeNaam = zelfdeNaam;
+    }
+
+    @Override
+    public EventTijdslot zoekLokaalConflict(Event event) {
+        return conflict;
+    }
+
+    @Override
+    public List<Event> findByNaamAndDatum(String naam, LocalDate datum) {
+        return zelfdeNaam;
+    }
+
+    @Override
+    public EventPagina findPagina(LocalDateTime van, LocalDateTime tot, EventCursor na, int grootte) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Event findById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public EventWeergave findWeergaveById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Event save(Event event) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<EventWeergave> getEventsOpDatum(LocalDate datum) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void streamEventsOpDatum(LocalDate datum, Consumer<EventWeergave> verwerker) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void streamEvents(Consumer<EventWeergave> verwerker) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void streamFavorieten(Long userId, Consumer<EventWeergave> verwerker) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public EventZoekResultaat zoek(String zoekterm, LocalDateTime van, LocalDateTime tot, int grootte) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SprekerProgramma findBySpreker(String naam) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,72 @@
+package perform;
+
+import com.example.demo.EventValidatorAdvice;
+import domain.Event;
+import domain.EventTijdslot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import validation.DatumBinnenJuni2025Validator;
+import validation.LokaalNaamValidator;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validatie die bij elke POST van het event- en lokaalformulier loopt.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatieBenchmark {
+
+    private static final LocalDateTime IN_JUNI = LocalDateTime.of(2025, 6, 10, 10, 0);
+
+    private EventValidatorAdvice geldigValidator;
+    private EventValidatorAdvice conflictValidator;
+    private Event event;
+
+    private final LokaalNaamValidator lokaalNaamValidator = new LokaalNaamValidator();
+    private final DatumBinnenJuni2025Validator datumValidator = new DatumBinnenJuni2025Validator();
+
+    @Setup
+    public void setup() {
+        event = BenchmarkData.event(42L, "Spring Boot Introductie", IN_JUNI);
+        geldigValidator = new EventValidatorAdvice(new StubEventService(null, List.of()), Clock.systemDefaultZone());
+        conflictValidator = new EventValidatorAdvice(new StubEventService(
+                new EventTijdslot(7L, 1L, IN_JUNI, IN_JUNI.plusMinutes(60)),
+                List.of(BenchmarkData.event(7L, "Spring Boot Introductie", IN_JUNI))), Clock.systemDefaultZone());
+    }
+
+    @Benchmark
+    public Errors eventValidatorZonderConflict() {
+        Errors errors = new BeanPropertyBindingResult(event, "event");
+        geldigValidator.validate(event, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors eventValidatorMetConflicten() {
+        Errors errors = new BeanPropertyBindingResult(event, "event");
+        conflictValidator.validate(event, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public void lokaalNaam(Blackhole bh) {
+        bh.consume(lokaalNaamValidator.isValid("A101", null));
+        bh.consume(lokaalNaamValidator.isValid("Aula 1", null));
+    }
+
+    @Benchmark
+    public void datumBinnenJuni2025(Blackhole bh) {
+        bh.consume(datumValidator.isValid(IN_JUNI, null));
+        bh.consume(datumValidator.isValid(IN_JUNI.plusMonths(1), null));
+    }
+}
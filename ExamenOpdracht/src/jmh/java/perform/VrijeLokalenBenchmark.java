@@ -0,0 +1,100 @@
+package perform;
+
+import domain.EventTijdslot;
+import domain.Lokaal;
+import org.openjdk.jmh.annotations.*;
+import service.LokaalBezetting;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LokaalBezetting#vrijeLokalen} voor een programma op schaal van de schaaltest: 5000 lokalen met elk uurslots
+ * in juni. {@code perLokaal} is de lus die een client zonder dit endpoint zou doen: één conflictcontrole per lokaal.
+ * De periodes: een uur op kwartiergrenzen, een uur dat in twee randkwartieren valt en een volledige dag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class VrijeLokalenBenchmark {
+
+    private static final LocalDateTime EERSTE_SLOT = LocalDateTime.of(2025, 6, 1, 8, 0);
+    private static final int SLOTS = 30 * 12;
+
+    @Param({"5000"})
+    private int aantalLokalen;
+
+    @Param({"1000000"})
+    private int aantalEvents;
+
+    @Param({"uur", "randen", "dag"})
+    private String periode;
+
+    private LokaalBezetting bezetting;
+    private List<Lokaal> lokalen;
+    private LocalDateTime start;
+    private LocalDateTime eind;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // De repository wordt enkel bij het laden aangesproken.
+        bezetting = new LokaalBezetting(null);
+        lokalen = new ArrayList<>(aantalLokalen);
+        for (int l = 0; l < aantalLokalen; l++) {
+            Lokaal lokaal = new Lokaal();
+            lokaal.setId((long) l + 1);
+            lokalen.add(lokaal);
+        }
+        // Elk lokaal vult zijn slots in een eigen volgorde, zoals in de schaaltest; geen overlap binnen een lokaal.
+        Random random = new Random(42);
+        int[] stap = new int[aantalLokalen];
+        for (int l = 0; l < aantalLokalen; l++) {
+            stap[l] = new int[]{1, 7, 11, 13, 17, 19, 23, 29}[random.nextInt(8)];
+        }
+        for (int i = 0; i < aantalEvents; i++) {
+            int l = i % aantalLokalen;
+            int slot = (i / aantalLokalen) * stap[l] % SLOTS;
+            LocalDateTime begin = EERSTE_SLOT.plusDays(slot / 12).plusHours(slot % 12);
+            bezetting.registreer(new EventTijdslot((long) i + 1, (long) l + 1, begin,
+                    begin.plusMinutes(30 + 15 * random.nextInt(3))));
+        }
+
+        LocalDateTime dag = LocalDateTime.of(2025, 6, 12, 0, 0);
+        switch (periode) {
+            case "uur" -> {
+                start = dag.withHour(14);
+                eind = start.plusHours(1);
+            }
+            case "randen" -> {
+                start = dag.withHour(14).plusMinutes(10);
+                eind = start.plusHours(1);
+            }
+            default -> {
+                start = dag;
+                eind = dag.plusDays(1);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Lokaal> vrijeLokalen() {
+        return bezetting.vrijeLokalen(lokalen, start, eind);
+    }
+
+    @Benchmark
+    public List<Lokaal> perLokaal() {
+        List<Lokaal> vrij = new ArrayList<>();
+        for (Lokaal lokaal : lokalen) {
+            if (bezetting.zoekConflict(lokaal.getId(), start, eind, null).isEmpty()) {
+                vrij.add(lokaal);
+            }
+        }
+        return vrij;
+    }
+}
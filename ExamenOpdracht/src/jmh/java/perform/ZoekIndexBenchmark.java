@@ -0,0 +1,67 @@
+package perform;
+
+import domain.Event;
+import org.openjdk.jmh.annotations.*;
+import service.EventZoekIndex;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventZoekIndex#zoek} over een programma met de woordenschat van de schaaltest: van een zeldzame combinatie
+ * tot een prefix van één letter die bijna elk event raakt.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ZoekIndexBenchmark {
+
+    private static final String[] ONDERWERPEN = {"Spring Boot", "Microservices", "Kotlin", "Kubernetes", "Java 21",
+            "GraphQL", "Hibernate", "Reactive streams", "Security", "Observability"};
+    private static final String[] FORMATEN = {"Introductie tot %s", "%s in de praktijk", "Workshop %s"};
+    private static final String[] VOORNAMEN = {"Jan", "Marie", "Pieter", "Sofie", "Tom", "Lies", "Bram", "Emma"};
+    private static final String[] ACHTERNAMEN = {"Peeters", "Janssens", "Maes", "Jacobs", "Mertens", "Willems"};
+    private static final LocalDateTime BEGIN = LocalDateTime.of(2025, 6, 1, 8, 0);
+
+    @Param({"1000000"})
+    private int aantalEvents;
+
+    @Param({"kotlin workshop jan", "spring", "peeters", "s"})
+    private String zoekterm;
+
+    private EventZoekIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // De repository wordt enkel bij het laden aangesproken.
+        index = new EventZoekIndex(null);
+        Random random = new Random(42);
+        List<Event> blok = new ArrayList<>();
+        for (int i = 0; i < aantalEvents; i++) {
+            String onderwerp = ONDERWERPEN[random.nextInt(ONDERWERPEN.length)];
+            Event event = BenchmarkData.event(i + 1,
+                    String.format(FORMATEN[random.nextInt(FORMATEN.length)], onderwerp) + " #" + random.nextInt(300),
+                    BEGIN.plusDays(random.nextInt(30)).plusHours(random.nextInt(12)));
+            event.setBeschrijving("Sessie over " + onderwerp.toLowerCase() + ".");
+            event.setSprekers(new ArrayList<>(List.of(
+                    VOORNAMEN[random.nextInt(VOORNAMEN.length)] + " " + ACHTERNAMEN[random.nextInt(ACHTERNAMEN.length)])));
+            blok.add(event);
+            if (blok.size() == 10_000) {
+                index.registreer(blok);
+                blok.clear();
+            }
+        }
+        index.registreer(blok);
+    }
+
+    @Benchmark
+    public EventZoekIndex.Treffers zoek() {
+        return index.zoek(zoekterm, null, null, 25);
+    }
+}
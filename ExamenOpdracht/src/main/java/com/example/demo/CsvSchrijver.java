@@ -0,0 +1,71 @@
+package com.example.demo;
+
+import domain.EventWeergave;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Schrijft events als CSV met dezelfde kolomnamen en sprekerscheiding ({@code |}) als de bulkimport, zodat een
+ * export na aanvulling van de beamercodes terug ingelezen kan worden.
+ */
+class CsvSchrijver implements AutoCloseable {
+
+    private final Writer uit;
+
+    CsvSchrijver(OutputStream out) {
+        this.uit = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        regel("id", "naam", "beschrijving", "sprekers", "lokaal", "datumTijd", "duurMinuten", "prijs");
+    }
+
+    void schrijf(EventWeergave event) {
+        regel(String.valueOf(event.id()),
+                event.naam(),
+                event.beschrijving(),
+                String.join("|", event.sprekers()),
+                event.lokaal() != null ? event.lokaal().naam() : null,
+                event.datumTijd().toString(),
+                event.duurMinuten() != null ? event.duurMinuten().toString() : null,
+                event.prijs() != null ? event.prijs().toPlainString() : null);
+    }
+
+    @Override
+    public void close() {
+        try {
+            uit.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void regel(String... velden) {
+        try {
+            for (int i = 0; i < velden.length; i++) {
+                if (i > 0) {
+                    uit.write(',');
+                }
+                uit.write(veld(velden[i]));
+            }
+            uit.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Enkel tussen aanhalingstekens als het moet (RFC 4180).
+    private static String veld(String waarde) {
+        if (waarde == null) {
+            return "";
+        }
+        if (waarde.indexOf(',') < 0 && waarde.indexOf(';') < 0 && waarde.indexOf('"') < 0
+                && waarde.indexOf('\n') < 0 && waarde.indexOf('\r') < 0) {
+            return waarde;
+        }
+        return '"' + waarde.replace("\"", "\"\"") + '"';
+    }
+}
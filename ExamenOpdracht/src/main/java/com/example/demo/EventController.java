@@ -1,26 +1,41 @@
 package com.example.demo;
 
 import domain.Event;
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import domain.InschrijvingResultaat;
+import domain.SprekerProgramma;
 import domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import service.EventService;
+import service.InschrijvingService;
 import service.LokaalService;
 import service.UserService;
 
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Controller
@@ -29,23 +44,26 @@ public class EventController {
     private final EventService eventService;
     private final LokaalService lokaalService;
     private final UserService userService;
-    private final EventValidatorAdvice eventValidatorAdvice;
+    private final Validator eventValidator;
+    private final EventOverzichtCache eventOverzichtCache;
+    private final InschrijvingService inschrijvingService;
 
-    public EventController(EventService eventService, LokaalService lokaalService, UserService userService, EventValidatorAdvice eventValidatorAdvice) {
+    public EventController(EventService eventService, LokaalService lokaalService, UserService userService, EventValidatorAdvice eventValidatorAdvice, MeterRegistry meterRegistry, EventOverzichtCache eventOverzichtCache, InschrijvingService inschrijvingService) {
         this.eventService = eventService;
         this.lokaalService = lokaalService;
         this.userService = userService;
-        this.eventValidatorAdvice = eventValidatorAdvice;
+        this.eventValidator = new GemetenValidator(eventValidatorAdvice, "event", meterRegistry);
+        this.eventOverzichtCache = eventOverzichtCache;
+        this.inschrijvingService = inschrijvingService;
     }
 
     @InitBinder("event")
     protected void initBinder(WebDataBinder binder) {
-    	System.out.println("InitBinder voor event wordt aangeroepen");
         Object target = binder.getTarget();
         if (target == null || !Event.class.isAssignableFrom(target.getClass())) {
             return;
         }
-        binder.addValidators(eventValidatorAdvice);
+        binder.addValidators(eventValidator);
     }
 
     private void addUserRolesToModel(Authentication authentication, Model model) {
@@ -61,28 +79,74 @@ public class EventController {
     }
 
     @GetMapping("/")
-    public String showAllEvents(Model model, Authentication authentication, Principal principal) {
-        model.addAttribute("events", eventService.findAllSortedByDatumTijd());
-        addUserRolesToModel(authentication, model);
+    public String showAllEvents(@RequestParam(name = "from", required = false)
+                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                @RequestParam(name = "to", required = false)
+                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                @RequestParam(name = "cursor", required = false) String cursor,
+                                @RequestParam(name = "size", defaultValue = "25") int size,
+                                @RequestParam(name = "q", required = false) String q,
+                                Model model, Authentication authentication, Principal principal, Locale locale,
+                                HttpServletRequest request, HttpServletResponse response) {
+        EventCursor na = cursor != null ? EventCursor.decode(cursor) : null;
+        boolean isAdmin = heeftRol(authentication, "ROLE_ADMIN");
+        boolean isUser = heeftRol(authentication, "ROLE_USER");
+
+        int grootte = EventPagina.grootte(size);
+
+        String html;
+        String volgendeCursor = null;
+        if (q != null && !q.isBlank()) {
+            EventZoekResultaat resultaat = eventService.zoek(q,
+                    from != null ? from.atStartOfDay() : null,
+                    to != null ? to.plusDays(1).atStartOfDay() : null,
+                    size);
+            html = eventOverzichtCache.zoekRijen(request, response, locale, isAdmin, isUser, resultaat.events());
+            model.addAttribute("zoekResultaat", resultaat);
+        } else {
+            EventOverzichtCache.Rijen rijen = eventOverzichtCache.rijen(request, response, locale,
+                    isAdmin, isUser, from, to, na, grootte,
+                    () -> eventService.findPagina(
+                            from != null ? from.atStartOfDay() : null,
+                            to != null ? to.plusDays(1).atStartOfDay() : null,
+                            na,
+                            grootte));
+            html = rijen.html();
+            volgendeCursor = rijen.volgendeCursor();
+        }
 
-        if (authentication != null && principal != null) {
+        if (isUser && principal != null) {
             Optional<User> userOpt = userService.findByUsername(principal.getName());
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
-                model.addAttribute("favorietIds", user.getFavorieten().stream().map(Event::getId).collect(Collectors.toSet()));
-                model.addAttribute("limietBereikt", userService.isFavorietenLimietBereikt(user));
+                boolean limietBereikt = userService.isFavorietenLimietBereikt(user);
+                Set<Long> favorietIds = limietBereikt ? Set.of() : userService.getFavorietIds(user);
+                html = EventOverzichtCache.metFavorieten(html, favorietIds, limietBereikt);
             }
         }
 
+        model.addAttribute("rijen", html);
+        model.addAttribute("volgendeCursor", volgendeCursor);
+        model.addAttribute("size", grootte);
+        model.addAttribute("from", from);
+        model.addAttribute("to", to);
+        model.addAttribute("q", q);
+        addUserRolesToModel(authentication, model);
         return "events";
     }
 
+    private static boolean heeftRol(Authentication authentication, String rol) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals(rol));
+    }
+
     @GetMapping("/event/{id}")
     public String showEventDetails(@PathVariable Long id, Model model, Authentication authentication, Principal principal) {
-        Event event = eventService.findById(id);
+        EventWeergave event = eventService.findWeergaveById(id);
         if (event == null) return "/404";
 
         model.addAttribute("event", event);
+        model.addAttribute("plaatsen", inschrijvingService.getPlaatsen(id));
         addUserRolesToModel(authentication, model);
 
         boolean isUser = authentication != null && authentication.getAuthorities().stream()
@@ -97,19 +161,32 @@ public class EventController {
             Optional<User> userOpt = userService.findByUsername(principal.getName());
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
-                boolean isFavoriet = userService.isFavoriet(user, event);
+                // Het event zit al in de persistence context van deze request, dus geen extra query.
+                boolean isFavoriet = userService.isFavoriet(user, eventService.findById(id));
                 boolean limietBereikt = userService.isFavorietenLimietBereikt(user);
                 model.addAttribute("isFavoriet", isFavoriet);
                 model.addAttribute("limietBereikt", limietBereikt);
+                model.addAttribute("isIngeschreven", inschrijvingService.isIngeschreven(user, id));
             }
         } else {
             model.addAttribute("isFavoriet", false);
             model.addAttribute("limietBereikt", false);
+            model.addAttribute("isIngeschreven", false);
         }
 
         return "event-details";
     }
 
+    @GetMapping("/spreker/{naam}")
+    public String showSprekerEvents(@PathVariable String naam, Model model, Authentication authentication) {
+        SprekerProgramma programma = eventService.findBySpreker(naam);
+        if (programma == null) return "/404";
+
+        model.addAttribute("programma", programma);
+        addUserRolesToModel(authentication, model);
+        return "spreker";
+    }
+
     @PostMapping("/event/favoriet-toevoegen/{id}")
     @PreAuthorize("hasRole('USER')")
     public String voegFavorietToe(@PathVariable Long id, Principal principal, RedirectAttributes redirectAttributes) {
@@ -129,6 +206,36 @@ public class EventController {
         return "redirect:/event/" + id;
     }
 
+    @PostMapping("/event/favoriet-verwijderen/{id}")
+    @PreAuthorize("hasRole('USER')")
+    public String verwijderFavoriet(@PathVariable Long id, Principal principal, RedirectAttributes redirectAttributes) {
+        Optional<User> userOpt = userService.findByUsername(principal.getName());
+        Event event = eventService.findById(id);
+
+        if (userOpt.isPresent() && event != null) {
+            if (!userService.verwijderFavoriet(userOpt.get(), event)) {
+                redirectAttributes.addFlashAttribute("fout", "Kon niet verwijderen uit favorieten. Misschien al verwijderd.");
+            }
+        } else {
+            redirectAttributes.addFlashAttribute("fout", "Kon event of gebruiker niet vinden.");
+        }
+
+        return "redirect:/event/" + id;
+    }
+
+    @PostMapping("/event/inschrijven/{id}")
+    @PreAuthorize("hasRole('USER')")
+    public String schrijfIn(@PathVariable Long id, Principal principal, RedirectAttributes redirectAttributes) {
+        Optional<User> userOpt = userService.findByUsername(principal.getName());
+        if (userOpt.isPresent()) {
+            InschrijvingResultaat resultaat = inschrijvingService.schrijfIn(userOpt.get(), id);
+            redirectAttributes.addFlashAttribute("inschrijving", resultaat);
+        } else {
+            redirectAttributes.addFlashAttribute("fout", "Kon gebruiker niet vinden.");
+        }
+        return "redirect:/event/" + id;
+    }
+
     @GetMapping("/event/toevoeg")
     @PreAuthorize("hasRole('ADMIN')")
     public String toonEventToevoegPagina(Model model, Authentication authentication) {
@@ -144,7 +251,7 @@ public class EventController {
                                          BindingResult bindingResult,
                                          Model model,
                                          Authentication authentication) {
-    	eventValidatorAdvice.validate(event, bindingResult);
+    	eventValidator.validate(event, bindingResult);
         if (bindingResult.hasErrors()) {
             model.addAttribute("lokalen", lokaalService.findAll());
             addUserRolesToModel(authentication, model);
@@ -159,7 +266,6 @@ public class EventController {
     public String toonEventBewerkPagina(@PathVariable Long id, Model model, Authentication authentication) {
         Event event = eventService.findById(id);
         if (event == null) {
-            System.out.println("Event niet gevonden voor id: " + id);
             return "redirect:/";
         }
 
@@ -187,7 +293,7 @@ public class EventController {
                                         Model model,
                                         Authentication authentication) {
     	
-    	eventValidatorAdvice.validate(event, bindingResult);
+    	eventValidator.validate(event, bindingResult);
 
         if (bindingResult.hasErrors()) {
             model.addAttribute("lokalen", lokaalService.findAll());
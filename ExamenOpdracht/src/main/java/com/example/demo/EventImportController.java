@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import domain.EventImportRapport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import service.EventImportService;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/events/import")
+@PreAuthorize("hasRole('ADMIN')")
+public class EventImportController {
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    // De body wordt als stroom doorgegeven; de service leest hem record per record.
+    @PostMapping(consumes = "text/csv")
+    public EventImportRapport importeerCsv(InputStream body, Locale locale) {
+        return eventImportService.importeerCsv(new InputStreamReader(body, StandardCharsets.UTF_8), locale);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public EventImportRapport importeerJson(InputStream body, Locale locale) {
+        return eventImportService.importeerJson(body, locale);
+    }
+}
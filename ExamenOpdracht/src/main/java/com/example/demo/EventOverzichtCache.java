@@ -0,0 +1,145 @@
+package com.example.demo;
+
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventWeergave;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+import service.ProgrammaVersie;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Gerenderde tabelrijen van het overzicht, per (programmaversie, rollen, taal, paginavenster).
+ *
+ * Een treffer kost geen query en geen template-rendering meer; enkel de favorietknoppen worden per gebruiker
+ * aangepast met {@link #metFavorieten}. Bij een nieuwe programmaversie gaat de hele cache weg.
+ *
+ * Het paginavenster in de sleutel is genormaliseerd (gedecodeerde cursor, begrensde grootte), en de cache is een
+ * LRU van hoogstens {@code overzicht.cache.max-fragmenten} pagina's: een crawler met willekeurige cursors of groottes
+ * verdringt de minst gevraagde pagina's, maar houdt de cache niet tot de volgende programmaversie vol.
+ */
+@Component
+public class EventOverzichtCache {
+
+    private static final String TEMPLATE = "event-rijen";
+    private static final Set<String> FRAGMENT = Set.of("rijen");
+    private static final String FAVORIET_KNOP = "<button type=\"submit\" data-favoriet=\"";
+
+    private final ITemplateEngine templateEngine;
+    private final ProgrammaVersie programmaVersie;
+    private final JakartaServletWebApplication webApplication;
+    private final int maxFragmenten;
+
+    // Toegangsvolgorde; enkel onder de lock van deze cache gebruiken.
+    private final Map<Sleutel, Rijen> fragmenten;
+    private long cacheVersie = -1;
+
+    public EventOverzichtCache(ITemplateEngine templateEngine, ProgrammaVersie programmaVersie,
+                               ServletContext servletContext,
+                               @Value("${overzicht.cache.max-fragmenten:500}") int maxFragmenten) {
+        this.templateEngine = templateEngine;
+        this.programmaVersie = programmaVersie;
+        this.webApplication = JakartaServletWebApplication.buildApplication(servletContext);
+        this.maxFragmenten = maxFragmenten;
+        this.fragmenten = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Sleutel, Rijen> oudste) {
+                return size() > EventOverzichtCache.this.maxFragmenten;
+            }
+        };
+    }
+
+    public record Rijen(String html, String volgendeCursor) {
+    }
+
+    private record Sleutel(long versie, boolean admin, boolean user, Locale locale,
+                           LocalDate from, LocalDate to, EventCursor na, int grootte) {
+    }
+
+    /**
+     * @param na      de gedecodeerde cursor, null voor de eerste pagina
+     * @param grootte de begrensde paginagrootte ({@link EventPagina#grootte})
+     */
+    public Rijen rijen(HttpServletRequest request, HttpServletResponse response, Locale locale,
+                       boolean admin, boolean user, LocalDate from, LocalDate to, EventCursor na, int grootte,
+                       Supplier<EventPagina> laadPagina) {
+        // Versie vóór de data lezen: de gecachte rijen zijn dan minstens zo nieuw als hun sleutel.
+        Sleutel sleutel = new Sleutel(programmaVersie.huidige(), admin, user, locale, from, to, na, grootte);
+        Rijen rijen = zoek(sleutel);
+        if (rijen != null) {
+            return rijen;
+        }
+        EventPagina pagina = laadPagina.get();
+        rijen = new Rijen(render(request, response, locale, admin, user, pagina), pagina.volgendeCursor());
+        bewaar(sleutel, rijen);
+        return rijen;
+    }
+
+    private synchronized Rijen zoek(Sleutel sleutel) {
+        if (sleutel.versie() > cacheVersie) {
+            fragmenten.clear();
+            cacheVersie = sleutel.versie();
+        }
+        return fragmenten.get(sleutel);
+    }
+
+    // Rijen van een intussen vervangen versie worden niet meer bewaard.
+    private synchronized void bewaar(Sleutel sleutel, Rijen rijen) {
+        if (sleutel.versie() == cacheVersie) {
+            fragmenten.put(sleutel, rijen);
+        }
+    }
+
+    /**
+     * Rijen voor zoekresultaten, zonder cache: elke zoekterm is anders en de zoekindex antwoordt zonder databank.
+     */
+    public String zoekRijen(HttpServletRequest request, HttpServletResponse response, Locale locale,
+                            boolean admin, boolean user, List<EventWeergave> events) {
+        return render(request, response, locale, admin, user, new EventPagina(events, null));
+    }
+
+    /**
+     * Schakelt de knoppen uit voor events die al favoriet zijn, of allemaal als de limiet bereikt is.
+     */
+    public static String metFavorieten(String html, Set<Long> favorietIds, boolean limietBereikt) {
+        if (limietBereikt) {
+            return html.replace(FAVORIET_KNOP, "<button type=\"submit\" disabled=\"disabled\" data-favoriet=\"");
+        }
+        String resultaat = html;
+        for (Long id : favorietIds) {
+            resultaat = resultaat.replace(FAVORIET_KNOP + id + "\"",
+                    "<button type=\"submit\" disabled=\"disabled\" data-favoriet=\"" + id + "\"");
+        }
+        return resultaat;
+    }
+
+    private String render(HttpServletRequest request, HttpServletResponse response, Locale locale,
+                          boolean admin, boolean user, EventPagina pagina) {
+        // Gedeelde HTML mag geen sessie-id bevatten: URL-rewriting staat hier uit.
+        HttpServletResponse zonderSessieId = new HttpServletResponseWrapper(response) {
+            @Override
+            public String encodeURL(String url) {
+                return url;
+            }
+        };
+        WebContext context = new WebContext(webApplication.buildExchange(request, zonderSessieId), locale);
+        context.setVariable("events", pagina.events());
+        context.setVariable("isAdmin", admin);
+        context.setVariable("isUser", user);
+        return templateEngine.process(TEMPLATE, FRAGMENT, context);
+    }
+}
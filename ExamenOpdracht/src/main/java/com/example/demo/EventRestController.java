@@ -1,26 +1,104 @@
 package com.example.demo;
 
-import domain.Event;
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import service.EventService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/events")
 public class EventRestController {
 
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
+
     @Autowired
     private EventService eventService;
 
-    @GetMapping
-    public List<Event> getEventsByDate(
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProgrammaEtag programmaEtag;
+
+    @GetMapping(params = "datum")
+    public ResponseEntity<List<EventWeergave>> getEventsByDate(
+            @RequestParam("datum")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate datum,
+            WebRequest request) {
+        return programmaEtag.antwoord(request, "json", List.of(datum), ok -> ok.body(eventService.getEventsOpDatum(datum)));
+    }
+
+    @GetMapping(params = "datum", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEventsByDate(
             @RequestParam("datum")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate datum) {
-        return eventService.getEventsOpDatum(datum);
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate datum,
+            WebRequest request) {
+        StreamingResponseBody body = out -> {
+            // Eén JSON-document per regel. De eerste rij gaat meteen de deur uit, daarna per blok van 100.
+            ObjectWriter ndjson = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n");
+            try (SequenceWriter writer = ndjson.writeValues(out)) {
+                int[] geschreven = {0};
+                eventService.streamEventsOpDatum(datum, event -> {
+                    try {
+                        writer.write(event);
+                        if (geschreven[0]++ % NDJSON_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return programmaEtag.antwoord(request, "ndjson", List.of(datum),
+                ok -> ok.contentType(MediaType.APPLICATION_NDJSON).body(body));
+    }
+
+    @GetMapping(params = "!datum")
+    public EventPagina getEvents(
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "25") int size) {
+        return eventService.findPagina(
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                cursor != null ? EventCursor.decode(cursor) : null,
+                size);
+    }
+
+    @GetMapping("/search")
+    public EventZoekResultaat searchEvents(
+            @RequestParam("q") String q,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "size", defaultValue = "25") int size) {
+        return eventService.zoek(q,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                size);
     }
 }
@@ -1,11 +1,14 @@
 package com.example.demo;
 
 import domain.Event;
+import domain.EventTijdslot;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
 import service.EventService;
+import validation.EventRegels;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,9 +16,11 @@ import java.util.List;
 public class EventValidatorAdvice implements Validator {
 
     private final EventService eventService;
+    private final Clock klok;
 
-    public EventValidatorAdvice(EventService eventService) {
+    public EventValidatorAdvice(EventService eventService, Clock klok) {
         this.eventService = eventService;
+        this.klok = klok;
     }
 
     @Override
@@ -25,45 +30,18 @@ public class EventValidatorAdvice implements Validator {
 
     @Override
     public void validate(Object target, Errors errors) {
-        System.out.println("Validate voor event wordt aangeroepen");
         if (!(target instanceof Event)) {
             throw new IllegalArgumentException("Invalid target for EventValidatorAdvice");
         }
         Event event = (Event) target;
 
-        if (event.getDatumTijd() != null && event.getDatumTijd().isBefore(LocalDateTime.now())) {
-            errors.rejectValue("datumTijd", "event.datumtijd.past", "De datum en tijd moeten in de toekomst liggen.");
-        }
-
-        if (event.getNaam() != null && event.getNaam().trim().isEmpty()) {
-            errors.rejectValue("naam", "event.naam.notblank", "Naam mag niet leeg zijn.");
-        }
-
-        if (event.getSprekers() == null || event.getSprekers().isEmpty()) {
-            errors.rejectValue("sprekers", "event.sprekers.size", "Er moet minstens één spreker zijn.");
-        } else {
-            if (event.getSprekers().get(0) == null || event.getSprekers().get(0).trim().isEmpty()) {
-                errors.rejectValue("sprekers", "event.spreker.first.notblank", "De eerste spreker mag niet leeg zijn.");
-            }
-            List<String> sprekers = event.getSprekers();
-            long distinctCount = sprekers.stream()
-                    .filter(s -> s != null && !s.trim().isEmpty())
-                    .map(String::toLowerCase)
-                    .distinct()
-                    .count();
-
-            if (distinctCount < sprekers.stream().filter(s -> s != null && !s.trim().isEmpty()).count()) {
-                errors.rejectValue("sprekers", "event.sprekers.duplicate", "Sprekers mogen niet dubbel voorkomen.");
-            }
-        }
+        EventRegels.valideer(event, LocalDateTime.now(klok), errors);
 
         if (event.getDatumTijd() != null && event.getLokaal() != null) {
-            Event bestaandEvent = eventService.findByDatumTijdAndLokaal(event.getDatumTijd(), event.getLokaal());
+            EventTijdslot conflict = eventService.zoekLokaalConflict(event);
 
-            if (bestaandEvent != null) {
-                if (event.getId() == null || !event.getId().equals(bestaandEvent.getId())) {
-                    errors.rejectValue("datumTijd", "event.datumtijdenlokaal.conflict", "Er is al een event gepland op dit tijdstip in dit lokaal.");
-                }
+            if (conflict != null) {
+                errors.rejectValue("datumTijd", "event.datumtijdenlokaal.conflict", "Er is al een event gepland op dit tijdstip in dit lokaal.");
             }
         }
 
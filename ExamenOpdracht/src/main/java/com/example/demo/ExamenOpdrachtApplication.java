@@ -1,30 +1,53 @@
 package com.example.demo;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Locale;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
-@SpringBootApplication
+// R2DBC is enkel voor de reactieve API (reactive.ReactieveApiApplication); deze servlet-app gebruikt JPA.
+@SpringBootApplication(exclude = {
+        R2dbcAutoConfiguration.class,
+        R2dbcDataAutoConfiguration.class,
+        R2dbcRepositoriesAutoConfiguration.class,
+        R2dbcTransactionManagerAutoConfiguration.class
+})
 @ComponentScan({"com.example.demo", "service", "repository", "domain"})
 @EnableJpaRepositories("repository")
 @EntityScan("domain")
+// @Async en MVC-async (NDJSON-streams) draaien op applicationTaskExecutor; in profiel 'virtueel' zijn dat virtuele threads.
+@EnableAsync
 public class ExamenOpdrachtApplication implements WebMvcConfigurer {
 
     public static void main(String[] args) {
         SpringApplication.run(ExamenOpdrachtApplication.class, args);
     }
     
+    // Met programma.klok (bv. 2025-05-01T00:00:00Z) staat "nu" vast, zodat het juni-2025-programma nog invoerbaar is.
+    @Bean
+    public Clock klok(@Value("${programma.klok:}") String vast) {
+        return vast.isBlank() ? Clock.systemDefaultZone() : Clock.fixed(Instant.parse(vast), ZoneId.systemDefault());
+    }
+
     @Bean
     public LocaleResolver localeResolver() {
         SessionLocaleResolver slr = new SessionLocaleResolver();
@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import service.EventService;
+import service.ProgrammaVersie;
+import service.UserService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Exports voor agenda-apps en spreadsheets. De events stromen rechtstreeks van de databankcursor naar de response;
+ * een agenda die om de paar minuten pollt, krijgt een 304 zolang het programma (en de favorieten) niet veranderd is.
+ */
+@RestController
+public class ExportController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProgrammaEtag programmaEtag;
+
+    @Autowired
+    private ProgrammaVersie programmaVersie;
+
+    @Value("${programma.tijdzone:Europe/Brussels}")
+    private ZoneId tijdzone;
+
+    @GetMapping("/api/events.ics")
+    public ResponseEntity<StreamingResponseBody> programmaIcs(WebRequest request) {
+        Instant gewijzigd = programmaVersie.laatstGewijzigd();
+        return programmaEtag.antwoord(request, "ics", ok -> ok
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, bestand("programma.ics"))
+                .body(out -> {
+                    try (IcsSchrijver ics = new IcsSchrijver(out, "IT Conferentie", tijdzone, gewijzigd)) {
+                        eventService.streamEvents(ics::schrijf);
+                    }
+                }));
+    }
+
+    @GetMapping("/api/events.csv")
+    public ResponseEntity<StreamingResponseBody> programmaCsv(WebRequest request) {
+        return programmaEtag.antwoord(request, "csv", ok -> ok
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, bestand("programma.csv"))
+                .body(out -> {
+                    try (CsvSchrijver csv = new CsvSchrijver(out)) {
+                        eventService.streamEvents(csv::schrijf);
+                    }
+                }));
+    }
+
+    @GetMapping("/favorieten.ics")
+    public ResponseEntity<StreamingResponseBody> favorietenIcs(Principal principal, WebRequest request) {
+        Optional<User> userOpt = userService.findByUsername(principal.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        User user = userOpt.get();
+        Instant gewijzigd = programmaVersie.laatstGewijzigd();
+        // Eén kleine query op de koppeltabel beslist of het bestand opnieuw gemaakt moet worden. De sleutel is de
+        // volledige gesorteerde lijst: een hash van een handvol kleine ids botst te makkelijk voor een sterke ETag.
+        String sleutel = userService.getFavorietIds(user).stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(".", "[", "]"));
+        return programmaEtag.antwoordPersoonlijk(request, "favorieten-ics", sleutel, ok -> ok
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, bestand("favorieten.ics"))
+                .body(out -> {
+                    try (IcsSchrijver ics = new IcsSchrijver(out, "Mijn favorieten", tijdzone, gewijzigd)) {
+                        eventService.streamFavorieten(user.getId(), ics::schrijf);
+                    }
+                }));
+    }
+
+    private static String bestand(String naam) {
+        return ContentDisposition.inline().filename(naam).build().toString();
+    }
+}
@@ -2,11 +2,16 @@ package com.example.demo;
 
 import domain.Event;
 import domain.User;
+import service.EventService;
 import service.UserService;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.security.Principal;
 import java.util.List;
@@ -17,9 +22,11 @@ import java.util.Optional;
 public class FavorietenController {
 
     private final UserService userService;
+    private final EventService eventService;
 
-    public FavorietenController(UserService userService) {
+    public FavorietenController(UserService userService, EventService eventService) {
         this.userService = userService;
+        this.eventService = eventService;
     }
 
     @GetMapping
@@ -32,5 +39,15 @@ public class FavorietenController {
         }
         return "favorieten";
     }
-}
 
+    @PostMapping("/verwijderen/{id}")
+    @PreAuthorize("hasRole('USER')")
+    public String verwijderFavoriet(@PathVariable Long id, Principal principal, RedirectAttributes redirectAttributes) {
+        Optional<User> userOpt = userService.findByUsername(principal.getName());
+        Event event = eventService.findById(id);
+        if (userOpt.isEmpty() || event == null || !userService.verwijderFavoriet(userOpt.get(), event)) {
+            redirectAttributes.addFlashAttribute("fout", "Kon niet verwijderen uit favorieten. Misschien al verwijderd.");
+        }
+        return "redirect:/favorieten";
+    }
+}
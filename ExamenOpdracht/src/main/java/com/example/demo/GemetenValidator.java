@@ -0,0 +1,52 @@
+package com.example.demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+
+/**
+ * Meet hoe lang een {@link Validator} bezig is, als timer {@code validatie} met de naam van de validator als tag.
+ */
+public class GemetenValidator implements SmartValidator {
+
+    private final Validator delegate;
+    private final Timer timer;
+
+    public GemetenValidator(Validator delegate, String naam, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timer = Timer.builder("validatie")
+                .description("Duur van formulier- en bean-validatie")
+                .tag("validator", naam)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        timer.record(() -> delegate.validate(target, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (delegate instanceof SmartValidator smart) {
+            timer.record(() -> smart.validate(target, errors, validationHints));
+        } else {
+            validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        if (delegate instanceof SmartValidator smart) {
+            timer.record(() -> smart.validateValue(targetType, fieldName, value, errors, validationHints));
+        } else {
+            SmartValidator.super.validateValue(targetType, fieldName, value, errors, validationHints);
+        }
+    }
+}
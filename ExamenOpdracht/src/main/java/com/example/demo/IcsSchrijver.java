@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import domain.EventTijdslot;
+import domain.EventWeergave;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Schrijft events als iCalendar (RFC 5545), één VEVENT per oproep, rechtstreeks naar de response.
+ *
+ * Tijden gaan in UTC mee, zodat er geen VTIMEZONE-blok nodig is. DTSTAMP is het tijdstip van de laatste
+ * programmawijziging: dezelfde ETag geeft zo byte per byte hetzelfde bestand.
+ */
+class IcsSchrijver implements AutoCloseable {
+
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_OCTETTEN = 75;
+
+    private final Writer uit;
+    private final ZoneId tijdzone;
+    private final String dtstamp;
+
+    IcsSchrijver(OutputStream out, String kalenderNaam, ZoneId tijdzone, Instant gewijzigd) {
+        this.uit = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        this.tijdzone = tijdzone;
+        this.dtstamp = UTC.format(gewijzigd);
+        regel("BEGIN:VCALENDAR");
+        regel("VERSION:2.0");
+        regel("PRODID:-//ExamenOpdracht//Programma//NL");
+        regel("CALSCALE:GREGORIAN");
+        regel("METHOD:PUBLISH");
+        regel("X-WR-CALNAME:" + tekst(kalenderNaam));
+    }
+
+    void schrijf(EventWeergave event) {
+        LocalDateTime eind = EventTijdslot.eindVan(event.datumTijd(), event.duurMinuten());
+        regel("BEGIN:VEVENT");
+        regel("UID:event-" + event.id() + "@examenopdracht");
+        regel("DTSTAMP:" + dtstamp);
+        regel("DTSTART:" + UTC.format(event.datumTijd().atZone(tijdzone)));
+        regel("DTEND:" + UTC.format(eind.atZone(tijdzone)));
+        regel("SUMMARY:" + tekst(event.naam()));
+        StringBuilder beschrijving = new StringBuilder();
+        if (event.beschrijving() != null && !event.beschrijving().isBlank()) {
+            beschrijving.append(event.beschrijving()).append('\n');
+        }
+        beschrijving.append("Sprekers: ").append(String.join(", ", event.sprekers()));
+        regel("DESCRIPTION:" + tekst(beschrijving.toString()));
+        if (event.lokaal() != null) {
+            regel("LOCATION:" + tekst(event.lokaal().naam()));
+        }
+        regel("END:VEVENT");
+    }
+
+    @Override
+    public void close() {
+        regel("END:VCALENDAR");
+        try {
+            uit.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // TEXT-waarden: backslash, puntkomma, komma en regeleinden escapen.
+    private static String tekst(String waarde) {
+        StringBuilder sb = new StringBuilder(waarde.length() + 8);
+        for (int i = 0; i < waarde.length(); i++) {
+            char c = waarde.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> sb.append('\\').append(c);
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Regels langer dan 75 octetten (UTF-8) worden gevouwen met CRLF + spatie, zonder een teken te splitsen.
+    private void regel(String regel) {
+        try {
+            int octetten = 0;
+            for (int i = 0; i < regel.length(); ) {
+                int codepoint = regel.codePointAt(i);
+                int lengte = codepoint < 0x80 ? 1 : codepoint < 0x800 ? 2 : codepoint < 0x10000 ? 3 : 4;
+                if (octetten + lengte > MAX_OCTETTEN) {
+                    uit.write("\r\n ");
+                    octetten = 1;
+                }
+                uit.write(Character.toChars(codepoint));
+                octetten += lengte;
+                i += Character.charCount(codepoint);
+            }
+            uit.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -28,8 +28,8 @@ public class InitDataConfig {
             lokaal2.setNaam("B202");
             lokaal2.setCapaciteit(20);
 
-            lokaalRepository.save(lokaal1);
-            lokaalRepository.save(lokaal2);
+            // saveAll: één transactie, dus de inserts per tabel in één JDBC-batch.
+            lokaalRepository.saveAll(List.of(lokaal1, lokaal2));
 
             User admin = new User();
             admin.setUsername("admin");
@@ -41,8 +41,7 @@ public class InitDataConfig {
             user.setPassword("user");
             user.setRole(Role.USER);
 
-            userRepository.save(admin);
-            userRepository.save(user);
+            userRepository.saveAll(List.of(admin, user));
 
             Event event1 = new Event();
             event1.setNaam("Spring Boot Introductie");
@@ -64,8 +63,7 @@ public class InitDataConfig {
             event2.setBeamerCheck(5678 % 97);
             event2.setPrijs(BigDecimal.valueOf(29.99));
 
-            eventRepository.save(event1);
-            eventRepository.save(event2);
+            eventRepository.saveAll(List.of(event1, event2));
         };
     }
 }
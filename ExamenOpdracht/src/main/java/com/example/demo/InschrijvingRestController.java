@@ -0,0 +1,52 @@
+package com.example.demo;
+
+import domain.EventPlaatsen;
+import domain.InschrijvingAntwoord;
+import domain.InschrijvingResultaat;
+import domain.User;
+import exception.EventNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import service.InschrijvingService;
+import service.UserService;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/events/{id}")
+public class InschrijvingRestController {
+
+    @Autowired
+    private InschrijvingService inschrijvingService;
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping("/plaatsen")
+    public EventPlaatsen getPlaatsen(@PathVariable Long id) {
+        EventPlaatsen plaatsen = inschrijvingService.getPlaatsen(id);
+        if (plaatsen == null) {
+            throw new EventNotFoundException(id);
+        }
+        return plaatsen;
+    }
+
+    // 201 bij een nieuwe inschrijving, 200 als de gebruiker al ingeschreven was, 409 als het event volzet is.
+    @PostMapping("/inschrijvingen")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<InschrijvingAntwoord> schrijfIn(@PathVariable Long id, Principal principal) {
+        User user = userService.findByUsername(principal.getName())
+                .orElseThrow(() -> new AccessDeniedException("Onbekende gebruiker"));
+        InschrijvingResultaat resultaat = inschrijvingService.schrijfIn(user, id);
+        HttpStatus status = switch (resultaat) {
+            case INGESCHREVEN -> HttpStatus.CREATED;
+            case AL_INGESCHREVEN -> HttpStatus.OK;
+            case VOLZET -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(new InschrijvingAntwoord(resultaat, inschrijvingService.getPlaatsen(id)));
+    }
+}
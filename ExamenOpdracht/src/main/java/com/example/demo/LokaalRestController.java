@@ -1,11 +1,18 @@
 package com.example.demo;
 
 import domain.Lokaal;
+import domain.LokaalWeergave;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import service.LokaalService;
 import exception.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/lokaal")
 public class LokaalRestController {
@@ -13,11 +20,27 @@ public class LokaalRestController {
     @Autowired
     private LokaalService lokaalService;
 
+    @Autowired
+    private ProgrammaEtag programmaEtag;
+
     @GetMapping("/{id}/capaciteit")
-    public int getLokaalCapaciteit(@PathVariable Long id) {
-        return lokaalService.findById(id)
+    public ResponseEntity<Integer> getLokaalCapaciteit(@PathVariable Long id, WebRequest request) {
+        return programmaEtag.antwoord(request, "capaciteit", List.of(id), ok -> ok.body(lokaalService.findById(id)
                 .map(Lokaal::getCapaciteit)
-                .orElseThrow(() -> new LokaalNotFoundException(id));
+                .orElseThrow(() -> new LokaalNotFoundException(id))));
     }
 
+    // Lokalen die in [van, tot) vrij zijn en minstens minCapaciteit plaatsen hebben, kleinste eerst.
+    @GetMapping("/vrij")
+    public ResponseEntity<List<LokaalWeergave>> getVrijeLokalen(
+            @RequestParam("van") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime van,
+            @RequestParam("tot") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime tot,
+            @RequestParam(name = "minCapaciteit", defaultValue = "1") int minCapaciteit,
+            WebRequest request) {
+        return programmaEtag.antwoord(request, "vrij", List.of(van, tot, minCapaciteit),
+                ok -> ok.body(lokaalService.findVrij(van, tot, minCapaciteit)
+                        .stream()
+                        .map(LokaalWeergave::van)
+                        .toList()));
+    }
 }
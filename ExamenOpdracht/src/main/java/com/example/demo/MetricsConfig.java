@@ -0,0 +1,42 @@
+package com.example.demo;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Metingen bovenop wat Spring Boot al meet (http.server.requests, spring.data.repository.invocations,
+ * hikaricp.connections.acquire): servicemethodes via {@code @Timed}, validatie en template-rendering.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final Validator defaultValidator;
+
+    public MetricsConfig(MeterRegistry meterRegistry, @Lazy @Qualifier("defaultValidator") Validator defaultValidator) {
+        this.meterRegistry = meterRegistry;
+        this.defaultValidator = defaultValidator;
+    }
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WeergaveMetingInterceptor(meterRegistry));
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new GemetenValidator(defaultValidator, "bean-validation", meterRegistry);
+    }
+}
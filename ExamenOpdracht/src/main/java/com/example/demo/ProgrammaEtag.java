@@ -0,0 +1,80 @@
+package com.example.demo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import service.ProgrammaVersie;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Conditionele GET voor API-bronnen die enkel van het programma afhangen: ETag uit {@link ProgrammaVersie},
+ * 304 bij een passende {@code If-None-Match} zonder dat de body (en dus de databank) aangesproken wordt. Hangt de
+ * body ook af van verzoekparameters, dan zitten die in de tag: een client die de tag van de ene dag meestuurt bij een
+ * vraag naar een andere dag, krijgt geen 304 met de body van de eerste.
+ */
+@Component
+public class ProgrammaEtag {
+
+    private final ProgrammaVersie programmaVersie;
+    private final CacheControl cacheControl;
+
+    public ProgrammaEtag(ProgrammaVersie programmaVersie,
+                         @Value("${api.cache.max-age:0s}") Duration maxAge) {
+        this.programmaVersie = programmaVersie;
+        // Antwoorden horen bij een ingelogde gebruiker: nooit in gedeelde caches.
+        this.cacheControl = maxAge.isZero()
+                ? CacheControl.noCache().cachePrivate()
+                : CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    /**
+     * Voor bronnen die enkel van het programma afhangen; stuurt ook {@code Last-Modified} mee voor clients die
+     * alleen {@code If-Modified-Since} kennen.
+     */
+    public <T> ResponseEntity<T> antwoord(WebRequest request, String representatie,
+                                          Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        return antwoord(request, representatie, List.of(), body);
+    }
+
+    /**
+     * Zoals hierboven, voor een bron die ook van verzoekparameters afhangt (dag, lokaal, periode). {@code parameters}
+     * zijn de al geparste waarden in een vaste volgorde, zodat elke schrijfwijze van dezelfde vraag dezelfde tag
+     * krijgt; hun {@code toString} mag geen aanhalingstekens of spaties bevatten.
+     */
+    public <T> ResponseEntity<T> antwoord(WebRequest request, String representatie, List<?> parameters,
+                                          Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        String sleutel = parameters.isEmpty() ? representatie : representatie + "-"
+                + parameters.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return beantwoord(request, programmaVersie.etag(sleutel), programmaVersie.laatstGewijzigd(), body);
+    }
+
+    /**
+     * Voor bronnen die ook van de gebruiker afhangen (bv. favorieten): {@code sleutel} moet elke gebruikersstaat
+     * samenvatten die in de body zit. Geen {@code Last-Modified}, want die volgt enkel het programma.
+     */
+    public <T> ResponseEntity<T> antwoordPersoonlijk(WebRequest request, String representatie, String sleutel,
+                                                     Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        return beantwoord(request, programmaVersie.etag(representatie + "-" + sleutel), null, body);
+    }
+
+    private <T> ResponseEntity<T> beantwoord(WebRequest request, String etag, Instant laatstGewijzigd,
+                                             Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        // checkNotModified zet ETag en Last-Modified zelf op de response (GET/HEAD); niet nog eens via de builder.
+        long lastModified = laatstGewijzigd != null ? laatstGewijzigd.toEpochMilli() : -1;
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT);
+        return body.apply(ok);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.demo;
+
+import domain.Event;
+import domain.Lokaal;
+import domain.User;
+import domain.User.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventBulkRepository;
+import repository.LokaalRepository;
+import repository.UserRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Synthetisch programma op productieschaal, enkel in profiel {@code schaaltest} (aantallen in
+ * application-schaaltest.properties). Draait na het opstarten, vóór {@link service.LokaalBezetting} zijn sloten laadt.
+ *
+ * Met hetzelfde zaad komen dezelfde lokalen, events, sprekers en favorieten terug. Events zitten in juni 2025 op
+ * uurslots van 8 tot 20 uur, nooit twee tegelijk in een lokaal en nooit twee keer dezelfde naam; sprekers komen uit
+ * een beperkte pool zodat ze over veel events terugkeren, en favorieten gaan vooral naar een kleine groep populaire
+ * events. Alles wordt in batches geschreven: lokalen en gebruikers met saveAll, events via {@link EventBulkRepository}
+ * en favorieten met JDBC.
+ */
+@Configuration
+@Profile("schaaltest")
+public class SchaalDataConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchaalDataConfig.class);
+
+    private static final LocalDateTime EERSTE_SLOT = LocalDateTime.of(2025, 6, 1, 8, 0);
+    private static final int SLOTS_PER_DAG = 12;
+    private static final int SLOTS_PER_LOKAAL = 30 * SLOTS_PER_DAG;
+    // Stappen zonder gemeenschappelijke deler met 360: elk lokaal doorloopt zijn slots in een eigen volgorde.
+    private static final int[] SLOT_STAPPEN = {1, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 49, 53, 59};
+    // Lokaalnamen C000 tot Z999; A en B blijven voor de vaste testdata.
+    private static final char EERSTE_LETTER = 'C';
+    private static final int MAX_LOKALEN = ('Z' - EERSTE_LETTER + 1) * 1000;
+
+    private static final String[] ONDERWERPEN = {"Spring Boot", "Microservices", "Kotlin", "Kubernetes", "Java 21",
+            "GraphQL", "Hibernate", "Reactive streams", "Security", "Observability", "Domain-driven design",
+            "Event sourcing", "Testcontainers", "Virtuele threads", "Machine learning", "Cloud-native", "API-design",
+            "Refactoring", "Clean code", "Performantie"};
+    private static final String[] FORMATEN = {"Introductie tot %s", "%s in de praktijk", "Workshop %s",
+            "Diepgaande sessie: %s", "%s voor gevorderden", "Wat is er nieuw in %s"};
+    private static final String[] VOORNAMEN = {"Jan", "Marie", "Pieter", "Sofie", "Tom", "Lies", "Bram", "Emma",
+            "Koen", "Lotte", "Wout", "Nina", "Stijn", "Fien", "Arne", "Hanne", "Jonas", "Elise", "Ruben", "Sara",
+            "Thomas", "Julie", "Lars", "Anouk", "Dries", "Eva", "Milan", "Lien", "Simon", "Zoë"};
+    private static final String[] ACHTERNAMEN = {"Peeters", "Janssens", "Maes", "Jacobs", "Mertens", "Willems",
+            "Claes", "Goossens", "Wouters", "De Smet", "Dubois", "Lambert", "Dupont", "Martens", "Vermeulen",
+            "Hermans", "Pauwels", "Aerts", "Michiels", "Desmet", "Van den Broeck", "Verstraete", "Cools", "Segers",
+            "Vos", "Smets", "Lemmens", "Bogaert", "Coppens", "Van Damme"};
+
+    @Bean
+    CommandLineRunner schaalData(LokaalRepository lokaalRepository, UserRepository userRepository,
+                                 EventBulkRepository eventBulkRepository, JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${schaaltest.lokalen}") int aantalLokalen,
+                                 @Value("${schaaltest.events}") int aantalEvents,
+                                 @Value("${schaaltest.users}") int aantalUsers,
+                                 @Value("${schaaltest.seed}") long seed,
+                                 @Value("${schaaltest.blok-grootte}") int blokGrootte,
+                                 @Value("${favorieten.max:1}") int maxFavorieten) {
+        return args -> {
+            if (aantalLokalen < 1 || aantalLokalen > MAX_LOKALEN) {
+                throw new IllegalArgumentException("schaaltest.lokalen moet tussen 1 en " + MAX_LOKALEN + " liggen");
+            }
+            if (aantalEvents > (long) aantalLokalen * SLOTS_PER_LOKAAL) {
+                throw new IllegalArgumentException("Te veel events: " + aantalLokalen + " lokalen hebben samen "
+                        + (long) aantalLokalen * SLOTS_PER_LOKAAL + " slots in juni");
+            }
+            Random random = new Random(seed);
+            TransactionTemplate transactie = new TransactionTemplate(transactionManager);
+            long start = System.nanoTime();
+
+            List<Lokaal> lokalen = lokalen(aantalLokalen, random);
+            transactie.executeWithoutResult(status -> lokaalRepository.saveAll(lokalen));
+            LOG.info("Schaaltest: {} lokalen na {} ms", lokalen.size(), ms(start));
+
+            long[] eventIds = new long[aantalEvents];
+            int[][] volgnummers = new int[ONDERWERPEN.length * FORMATEN.length][SLOTS_PER_LOKAAL / SLOTS_PER_DAG];
+            int[] slotStap = new int[aantalLokalen];
+            for (int l = 0; l < aantalLokalen; l++) {
+                slotStap[l] = SLOT_STAPPEN[random.nextInt(SLOT_STAPPEN.length)];
+            }
+            for (int van = 0; van < aantalEvents; van += blokGrootte) {
+                List<Event> blok = new ArrayList<>(blokGrootte);
+                for (int i = van; i < Math.min(van + blokGrootte, aantalEvents); i++) {
+                    blok.add(event(i, lokalen, slotStap, volgnummers, random));
+                }
+                transactie.executeWithoutResult(status -> eventBulkRepository.voegToe(blok));
+                for (int i = 0; i < blok.size(); i++) {
+                    eventIds[van + i] = blok.get(i).getId();
+                }
+            }
+            LOG.info("Schaaltest: {} events na {} ms", aantalEvents, ms(start));
+
+            int favorieten = 0;
+            for (int van = 0; van < aantalUsers; van += blokGrootte) {
+                List<User> blok = new ArrayList<>(blokGrootte);
+                for (int i = van; i < Math.min(van + blokGrootte, aantalUsers); i++) {
+                    blok.add(user(i));
+                }
+                List<Object[]> favorietRijen = new ArrayList<>();
+                transactie.executeWithoutResult(status -> {
+                    // Flushen: de favorieten gaan via JDBC en verwijzen naar deze rijen.
+                    userRepository.saveAllAndFlush(blok);
+                    for (User user : blok) {
+                        for (long eventId : favorieten(eventIds, maxFavorieten, random)) {
+                            favorietRijen.add(new Object[]{user.getId(), eventId});
+                        }
+                    }
+                    jdbcTemplate.batchUpdate("INSERT INTO user_favorites (user_id, event_id) VALUES (?, ?)",
+                            favorietRijen);
+                });
+                favorieten += favorietRijen.size();
+            }
+            LOG.info("Schaaltest: {} gebruikers met {} favorieten, klaar na {} ms", aantalUsers, favorieten, ms(start));
+        };
+    }
+
+    private static List<Lokaal> lokalen(int aantal, Random random) {
+        List<Lokaal> lokalen = new ArrayList<>(aantal);
+        for (int i = 0; i < aantal; i++) {
+            Lokaal lokaal = new Lokaal();
+            lokaal.setNaam(String.format("%c%03d", (char) (EERSTE_LETTER + i / 1000), i % 1000));
+            // Vooral kleine lokalen, enkele aula's van 50.
+            lokaal.setCapaciteit(random.nextInt(10) == 0 ? 50 : 10 + random.nextInt(31));
+            lokalen.add(lokaal);
+        }
+        return lokalen;
+    }
+
+    /**
+     * Event i komt in lokaal i % lokalen, op het (i / lokalen)-de slot van dat lokaal in zijn eigen volgorde: zo
+     * overlappen events in hetzelfde lokaal nooit. Een volgnummer per naam en dag houdt de naam uniek op die dag,
+     * met een woordenschat zo klein als die van een echt programma.
+     */
+    private static Event event(int i, List<Lokaal> lokalen, int[] slotStap, int[][] volgnummers, Random random) {
+        int l = i % lokalen.size();
+        int slot = (i / lokalen.size()) * slotStap[l] % SLOTS_PER_LOKAAL;
+
+        Event event = Event.nieuwEvent();
+        int o = random.nextInt(ONDERWERPEN.length);
+        int f = random.nextInt(FORMATEN.length);
+        String onderwerp = ONDERWERPEN[o];
+        int volgnummer = ++volgnummers[o * FORMATEN.length + f][slot / SLOTS_PER_DAG];
+        event.setNaam(String.format(FORMATEN[f], onderwerp) + " #" + volgnummer);
+        event.setBeschrijving(random.nextInt(4) == 0 ? null : "Sessie over " + onderwerp.toLowerCase() + ".");
+        int aantalSprekers = random.nextInt(100) < 55 ? 1 : random.nextInt(100) < 75 ? 2 : 3;
+        Set<String> sprekers = new LinkedHashSet<>();
+        while (sprekers.size() < aantalSprekers) {
+            sprekers.add(VOORNAMEN[random.nextInt(VOORNAMEN.length)] + " "
+                    + ACHTERNAMEN[random.nextInt(ACHTERNAMEN.length)]);
+        }
+        event.setSprekers(new ArrayList<>(sprekers));
+        event.setLokaal(lokalen.get(l));
+        event.setDatumTijd(EERSTE_SLOT.plusDays(slot / SLOTS_PER_DAG).plusHours(slot % SLOTS_PER_DAG));
+        event.setDuurMinuten(30 + 15 * random.nextInt(3));
+        int beamerCode = 1000 + random.nextInt(9000);
+        event.setBeamerCode(beamerCode);
+        event.setBeamerCheck(beamerCode % 97);
+        event.setPrijs(random.nextInt(3) == 0 ? null : BigDecimal.valueOf(999 + random.nextInt(9002), 2));
+        return event;
+    }
+
+    private static User user(int i) {
+        User user = new User();
+        user.setUsername(String.format("gebruiker%06d", i + 1));
+        user.setPassword("wachtwoord");
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    // Tussen 0 en max verschillende events, scheef verdeeld: het kwadraat van een uniforme trekking valt vaak laag.
+    private static Set<Long> favorieten(long[] eventIds, int max, Random random) {
+        Set<Long> favorieten = new LinkedHashSet<>();
+        if (eventIds.length == 0) {
+            return favorieten;
+        }
+        int aantal = Math.min(random.nextInt(max + 1), eventIds.length);
+        while (favorieten.size() < aantal) {
+            double u = random.nextDouble();
+            favorieten.add(eventIds[(int) (u * u * eventIds.length)]);
+        }
+        return favorieten;
+    }
+
+    private static long ms(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
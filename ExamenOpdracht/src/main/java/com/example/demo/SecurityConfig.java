@@ -2,6 +2,7 @@ package com.example.demo;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.User;
@@ -22,12 +23,16 @@ public class SecurityConfig {
 	        .authorizeHttpRequests(auth -> auth
 	            .requestMatchers("/", "/events", "/css/**", "/login").permitAll()
 	            .requestMatchers("/event/toevoeg").hasRole("ADMIN")
+	            .requestMatchers("/actuator/health").permitAll()
+	            .requestMatchers("/actuator/**").hasRole("ADMIN")
 	            .anyRequest().authenticated()
 	        )
 	        .formLogin(form -> form
 	            .loginPage("/login")
 	            .permitAll()
 	        )
+	        // API-clients (PerformRestClient, benchmarks) loggen in met HTTP Basic i.p.v. de loginpagina.
+	        .httpBasic(Customizer.withDefaults())
 	        .logout(logout -> logout.permitAll())
 	        .exceptionHandling(ex -> ex
 	            .accessDeniedPage("/z403")  
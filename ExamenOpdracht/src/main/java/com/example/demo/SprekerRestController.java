@@ -0,0 +1,28 @@
+package com.example.demo;
+
+import domain.SprekerProgramma;
+import exception.SprekerNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import service.EventService;
+
+@RestController
+@RequestMapping("/api/sprekers")
+public class SprekerRestController {
+
+    @Autowired
+    private EventService eventService;
+
+    // Hoofdletters en extra spaties in de naam maken niet uit.
+    @GetMapping("/{naam}/events")
+    public SprekerProgramma getEventsVanSpreker(@PathVariable String naam) {
+        SprekerProgramma programma = eventService.findBySpreker(naam);
+        if (programma == null) {
+            throw new SprekerNotFoundException(naam);
+        }
+        return programma;
+    }
+}
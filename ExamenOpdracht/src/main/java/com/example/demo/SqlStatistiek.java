@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL-tellers voor de HTTP-aanvraag die op deze thread loopt. {@link SqlStatistiekFilter} start en stopt de meting;
+ * de Hibernate-hooks in {@link SqlStatistiekConfig} tellen mee zolang er een meting actief is.
+ */
+public final class SqlStatistiek {
+
+    // Bovengrens zodat een aanvraag met duizenden statements het geheugen niet vult; de teller loopt wel door.
+    private static final int MAX_BEWAARDE_SQL = 500;
+
+    private static final ThreadLocal<SqlStatistiek> HUIDIGE = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private int entiteiten;
+    private int collecties;
+    private final List<String> sql = new ArrayList<>();
+
+    private long startStatement;
+
+    private SqlStatistiek() {
+    }
+
+    static SqlStatistiek start() {
+        SqlStatistiek statistiek = new SqlStatistiek();
+        HUIDIGE.set(statistiek);
+        return statistiek;
+    }
+
+    static void stop() {
+        HUIDIGE.remove();
+    }
+
+    static SqlStatistiek huidige() {
+        return HUIDIGE.get();
+    }
+
+    void sql(String statement) {
+        if (sql.size() < MAX_BEWAARDE_SQL) {
+            sql.add(statement);
+        }
+    }
+
+    void statementStart() {
+        startStatement = System.nanoTime();
+    }
+
+    void statementEinde() {
+        statements++;
+        jdbcNanos += System.nanoTime() - startStatement;
+    }
+
+    void entiteitGeladen() {
+        entiteiten++;
+    }
+
+    void collectieGeladen() {
+        collecties++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public double getJdbcMs() {
+        return jdbcNanos / 1e6;
+    }
+
+    public int getEntiteiten() {
+        return entiteiten;
+    }
+
+    public int getCollecties() {
+        return collecties;
+    }
+
+    /**
+     * Elk verschillend statement met het aantal keer dat het liep, meest uitgevoerde eerst: een N+1 springt zo
+     * bovenaan.
+     */
+    public Map<String, Integer> getSqlPerStatement() {
+        Map<String, Integer> perStatement = new LinkedHashMap<>();
+        sql.forEach(s -> perStatement.merge(s, 1, Integer::sum));
+        Map<String, Integer> gesorteerd = new LinkedHashMap<>();
+        perStatement.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> gesorteerd.put(e.getKey(), e.getValue()));
+        return gesorteerd;
+    }
+
+    public String samenvatting() {
+        return String.format(Locale.ROOT, "statements=%d;jdbc-ms=%.1f;entiteiten=%d;collecties=%d",
+                statements, getJdbcMs(), entiteiten, collecties);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Koppelt {@link SqlStatistiek} aan Hibernate: de SQL-tekst via een {@link StatementInspector}, de JDBC-tijd via een
+ * sessie-listener en geladen entiteiten en collecties via event-listeners.
+ */
+@Configuration
+public class SqlStatistiekConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatistiekHibernate() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new Inspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SessieListener.class.getName());
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(new LaadIntegrator()));
+        };
+    }
+
+    static class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            SqlStatistiek statistiek = SqlStatistiek.huidige();
+            if (statistiek != null) {
+                statistiek.sql(sql);
+            }
+            return sql;
+        }
+    }
+
+    // Hibernate maakt per sessie een nieuwe instantie aan via de klassenaam.
+    public static class SessieListener extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            SqlStatistiek statistiek = SqlStatistiek.huidige();
+            if (statistiek != null) {
+                statistiek.statementStart();
+            }
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            SqlStatistiek statistiek = SqlStatistiek.huidige();
+            if (statistiek != null) {
+                statistiek.statementEinde();
+            }
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            jdbcExecuteStatementStart();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            jdbcExecuteStatementEnd();
+        }
+    }
+
+    static class LaadIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, event -> {
+                SqlStatistiek statistiek = SqlStatistiek.huidige();
+                if (statistiek != null) {
+                    statistiek.entiteitGeladen();
+                }
+            });
+            registry.appendListeners(EventType.INIT_COLLECTION, event -> {
+                SqlStatistiek statistiek = SqlStatistiek.huidige();
+                if (statistiek != null) {
+                    statistiek.collectieGeladen();
+                }
+            });
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
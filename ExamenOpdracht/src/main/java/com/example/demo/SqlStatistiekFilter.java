@@ -0,0 +1,85 @@
+package com.example.demo;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Meet per HTTP-aanvraag hoeveel SQL er liep. Aanvragen boven een drempel komen in de log {@code sql.traag} met de
+ * statements erbij; met {@code sqlstatistiek.header=true} krijgt elk antwoord de header {@value #HEADER}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatistiekFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statistiek";
+
+    private static final Logger TRAAG = LoggerFactory.getLogger("sql.traag");
+
+    private final boolean header;
+    private final int maxStatements;
+    private final double maxJdbcMs;
+
+    public SqlStatistiekFilter(@Value("${sqlstatistiek.header:false}") boolean header,
+                               @Value("${sqlstatistiek.traag.statements:25}") int maxStatements,
+                               @Value("${sqlstatistiek.traag.jdbc-ms:250}") double maxJdbcMs) {
+        this.header = header;
+        this.maxStatements = maxStatements;
+        this.maxJdbcMs = maxJdbcMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistiek statistiek = SqlStatistiek.start();
+        // De header moet mee voor de body vertrekt, maar de template laadt nog data tijdens het schrijven:
+        // het antwoord wordt dus gebufferd. Streams (NDJSON, exports) worden asynchroon geschreven en blijven ongemoeid.
+        ContentCachingResponseWrapper gebufferd = header && !isStream(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, gebufferd != null ? gebufferd : response);
+        } finally {
+            SqlStatistiek.stop();
+            if (gebufferd != null) {
+                gebufferd.setHeader(HEADER, statistiek.samenvatting());
+                gebufferd.copyBodyToResponse();
+            }
+            if (statistiek.getStatements() > maxStatements || statistiek.getJdbcMs() > maxJdbcMs) {
+                logTraag(request, statistiek);
+            }
+        }
+    }
+
+    private void logTraag(HttpServletRequest request, SqlStatistiek statistiek) {
+        StringBuilder bericht = new StringBuilder()
+                .append(request.getMethod()).append(' ').append(request.getRequestURI())
+                .append(request.getQueryString() != null ? "?" + request.getQueryString() : "")
+                .append(" -> ").append(statistiek.samenvatting());
+        statistiek.getSqlPerStatement().forEach((sql, aantal) ->
+                bericht.append(System.lineSeparator()).append("  ").append(aantal).append("x ").append(sql));
+        TRAAG.warn(bericht.toString());
+    }
+
+    private static boolean isStream(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.endsWith(".ics") || uri.endsWith(".csv")) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && (accept.contains(MediaType.APPLICATION_NDJSON_VALUE)
+                || accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meet de Thymeleaf-rendering: tussen postHandle (controller klaar) en afterCompletion (view geschreven).
+ */
+public class WeergaveMetingInterceptor implements HandlerInterceptor {
+
+    private static final String START = WeergaveMetingInterceptor.class.getName() + ".start";
+    private static final String VIEW = WeergaveMetingInterceptor.class.getName() + ".view";
+
+    private final MeterRegistry meterRegistry;
+
+    public WeergaveMetingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null
+                || modelAndView.getViewName().startsWith("redirect:")) {
+            return;
+        }
+        request.setAttribute(VIEW, modelAndView.getViewName());
+        request.setAttribute(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(START) instanceof Long start)) {
+            return;
+        }
+        Timer.builder("weergave.render")
+                .description("Duur van het renderen van een Thymeleaf-template")
+                .tag("view", (String) request.getAttribute(VIEW))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -3,6 +3,9 @@ package domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import validation.DatumBinnenJuni2025;
 
 import java.math.BigDecimal;
@@ -10,9 +13,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // InnoDB voegt de primaire sleutel toe aan elke secundaire index, dus dit is ook (datum_tijd, id) voor keyset-paginatie.
+        @Index(name = "idx_events_datum_tijd", columnList = "datum_tijd"),
+        @Index(name = "idx_events_lokaal_datum_tijd", columnList = "lokaal_id, datum_tijd"),
+        @Index(name = "idx_events_naam_datum_tijd", columnList = "naam_genormaliseerd, datum_tijd")
+})
+// Veel meer gelezen dan geschreven: entiteit en sprekers staan in de tweede-niveaucache (regio's in ehcache.xml).
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,8 +32,13 @@ import java.util.List;
 @ToString(onlyExplicitlyIncluded = true)
 public class Event {
 
+    private static final java.util.regex.Pattern WITRUIMTE = java.util.regex.Pattern.compile("\\s+");
+
+    // Gepoolde sequentie: Hibernate reserveert 500 ids per round trip (veel voor de import) en kan de inserts dan
+    // bundelen; IDENTITY zet JDBC-batching uit. MySQL kent geen sequenties; daar wordt events_seq een tabel met één rij.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 500)
     private Long id;
 
     @ToString.Include
@@ -29,9 +46,15 @@ public class Event {
     @Pattern(regexp = "^[A-Za-z].*", message = "{event.naam.pattern}")
     private String naam;
 
+    // Getrimde naam in kleine letters, zodat de dubbele-naamcontrole een index kan gebruiken.
+    @Column(name = "naam_genormaliseerd")
+    @Setter(AccessLevel.NONE)
+    private String naamGenormaliseerd;
+
     private String beschrijving;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events.sprekers")
     @Size(min = 1, max = 3, message = "{event.sprekers.size}")
     private List<String> sprekers;
 
@@ -41,7 +64,7 @@ public class Event {
     }
 
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lokaal_id", nullable = false)
     private Lokaal lokaal;
 
@@ -50,6 +73,11 @@ public class Event {
     @DatumBinnenJuni2025
     private LocalDateTime datumTijd;
 
+    // Optioneel; zonder duur bezet een event enkel zijn startminuut, zoals vroeger.
+    @Min(value = 1, message = "{event.duur.min}")
+    @Max(value = 720, message = "{event.duur.max}")
+    private Integer duurMinuten;
+
     @Min(value = 1000, message = "{event.beamercode.min}")
     @Max(value = 9999, message = "{event.beamercode.max}")
     private Integer beamerCode;
@@ -62,6 +90,29 @@ public class Event {
     @DecimalMax(value = "100.00", message = "{event.prijs.max}")
     private BigDecimal prijs;
 
+    // Aantal inschrijvingen; enkel verhoogd via EventRepository.boekPlaats met een voorwaardelijke UPDATE en gelezen
+    // via findPlaatsen. Hibernate schrijft de kolom nooit: daarom geen getter of setter.
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int ingeschreven;
+
+    @PrePersist
+    @PreUpdate
+    void normaliseerNaam() {
+        naamGenormaliseerd = normaliseer(naam);
+    }
+
+    public static String normaliseer(String naam) {
+        return naam != null ? naam.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    // Zelfde spreker ongeacht hoofdletters of extra spaties; gedeeld door de validatie en de sprekersindex.
+    public static String normaliseerSpreker(String spreker) {
+        return spreker != null ? WITRUIMTE.matcher(spreker.trim()).replaceAll(" ").toLowerCase(Locale.ROOT) : null;
+    }
+
     public LocalDate getDatum() {
         return datumTijd != null ? datumTijd.toLocalDate() : null;
     }
@@ -69,6 +120,10 @@ public class Event {
     public LocalTime getTijd() {
         return datumTijd != null ? datumTijd.toLocalTime() : null;
     }
+
+    public LocalDateTime getEindTijd() {
+        return datumTijd != null ? EventTijdslot.eindVan(datumTijd, duurMinuten) : null;
+    }
     
     public static Event nieuwEvent() {
         return new Event(); 
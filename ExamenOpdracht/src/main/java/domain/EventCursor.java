@@ -0,0 +1,39 @@
+package domain;
+
+import exception.OngeldigeCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset-positie in het programma: het laatst getoonde event op (datumTijd, id).
+ * Wordt naar buiten gegeven als een opaak URL-veilig token.
+ */
+public record EventCursor(LocalDateTime datumTijd, Long id) {
+
+    private static final String SCHEIDING = "|";
+
+    public static EventCursor van(Event event) {
+        return new EventCursor(event.getDatumTijd(), event.getId());
+    }
+
+    public String encode() {
+        String raw = datumTijd + SCHEIDING + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int pos = raw.lastIndexOf(SCHEIDING);
+            if (pos < 0) {
+                throw new OngeldigeCursorException(token);
+            }
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, pos)), Long.valueOf(raw.substring(pos + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new OngeldigeCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package domain;
+
+import java.util.List;
+
+/**
+ * Samenvatting van een import met het resultaat per rij, in de volgorde van de invoer.
+ */
+public record EventImportRapport(int rijen,
+                                 int geimporteerd,
+                                 int geweigerd,
+                                 long duurMs,
+                                 List<EventImportResultaat> resultaten) {
+}
@@ -0,0 +1,13 @@
+package domain;
+
+import java.util.List;
+
+/**
+ * Uitkomst voor één rij van een import (1-gebaseerd, zonder kopregel): het nieuwe id, of de redenen van weigering.
+ */
+public record EventImportResultaat(int rij, Long id, List<String> fouten) {
+
+    public boolean isGeimporteerd() {
+        return id != null;
+    }
+}
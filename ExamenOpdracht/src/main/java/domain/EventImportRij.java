@@ -0,0 +1,34 @@
+package domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Eén record uit een CSV- of JSON-import. Het lokaal wordt op naam opgegeven, zoals in het programma.
+ */
+public record EventImportRij(String naam,
+                             String beschrijving,
+                             List<String> sprekers,
+                             String lokaal,
+                             LocalDateTime datumTijd,
+                             Integer duurMinuten,
+                             Integer beamerCode,
+                             Integer beamerCheck,
+                             BigDecimal prijs) {
+
+    public Event naarEvent(Lokaal lokaalEntiteit) {
+        Event event = new Event();
+        event.setNaam(naam);
+        event.setBeschrijving(beschrijving);
+        event.setSprekers(sprekers != null ? new ArrayList<>(sprekers) : null);
+        event.setLokaal(lokaalEntiteit);
+        event.setDatumTijd(datumTijd);
+        event.setDuurMinuten(duurMinuten);
+        event.setBeamerCode(beamerCode);
+        event.setBeamerCheck(beamerCheck != null ? beamerCheck : 0);
+        event.setPrijs(prijs);
+        return event;
+    }
+}
@@ -0,0 +1,24 @@
+package domain;
+
+import java.util.List;
+
+/**
+ * Eén pagina van het programma, gesorteerd op (datumTijd, id).
+ * {@code volgendeCursor} is null op de laatste pagina.
+ */
+public record EventPagina(List<EventWeergave> events, String volgendeCursor) {
+
+    private static final int STANDAARD_GROOTTE = 25;
+    private static final int MAX_GROOTTE = 200;
+
+    /**
+     * De paginagrootte die echt gebruikt wordt voor een gevraagde grootte: standaard bij 0 of minder, hoogstens 200.
+     */
+    public static int grootte(int gevraagd) {
+        return gevraagd <= 0 ? STANDAARD_GROOTTE : Math.min(gevraagd, MAX_GROOTTE);
+    }
+
+    public boolean heeftVolgende() {
+        return volgendeCursor != null;
+    }
+}
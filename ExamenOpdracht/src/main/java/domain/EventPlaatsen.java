@@ -0,0 +1,12 @@
+package domain;
+
+/**
+ * De plaatsen van een event: de capaciteit van zijn lokaal, hoeveel er bezet zijn en hoeveel er nog vrij zijn.
+ */
+public record EventPlaatsen(Long eventId, int capaciteit, int bezet, int vrij) {
+
+    // Constructor voor de JPQL-projectie.
+    public EventPlaatsen(Long eventId, int capaciteit, int bezet) {
+        this(eventId, capaciteit, bezet, Math.max(0, capaciteit - bezet));
+    }
+}
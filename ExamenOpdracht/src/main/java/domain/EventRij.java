@@ -0,0 +1,20 @@
+package domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Platte rij uit de streamende queries (per dag, volledig programma, favorieten): één rij per (event, spreker).
+ * Opeenvolgende rijen met hetzelfde id worden samengevoegd tot één {@link EventWeergave}.
+ */
+public record EventRij(Long id,
+                       String naam,
+                       String beschrijving,
+                       Long lokaalId,
+                       String lokaalNaam,
+                       int lokaalCapaciteit,
+                       LocalDateTime datumTijd,
+                       Integer duurMinuten,
+                       BigDecimal prijs,
+                       String spreker) {
+}
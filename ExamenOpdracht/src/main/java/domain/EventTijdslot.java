@@ -0,0 +1,28 @@
+package domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Het half-open interval [start, eind) waarin een event zijn lokaal bezet.
+ */
+public record EventTijdslot(Long eventId, Long lokaalId, LocalDateTime start, LocalDateTime eind) {
+
+    public static final int STANDAARD_DUUR_MINUTEN = 1;
+
+    // Constructor voor de JPQL-projectie, die de ruwe duur uit de tabel meegeeft.
+    public EventTijdslot(Long eventId, Long lokaalId, LocalDateTime start, Integer duurMinuten) {
+        this(eventId, lokaalId, start, eindVan(start, duurMinuten));
+    }
+
+    public static EventTijdslot van(Event event) {
+        return new EventTijdslot(event.getId(), event.getLokaal().getId(), event.getDatumTijd(), event.getEindTijd());
+    }
+
+    public static LocalDateTime eindVan(LocalDateTime start, Integer duurMinuten) {
+        return start.plusMinutes(duurMinuten != null ? duurMinuten : STANDAARD_DUUR_MINUTEN);
+    }
+
+    public boolean overlaptMet(LocalDateTime anderStart, LocalDateTime anderEind) {
+        return start.isBefore(anderEind) && anderStart.isBefore(eind);
+    }
+}
@@ -0,0 +1,44 @@
+package domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Alleen-lezen weergave van een event voor het overzicht, de detailpagina en de REST API.
+ * Wordt opgebouwd uit een event waarvan lokaal en sprekers al mee opgehaald zijn,
+ * zodat het renderen geen extra queries meer uitlokt.
+ */
+public record EventWeergave(Long id,
+                            String naam,
+                            String beschrijving,
+                            List<String> sprekers,
+                            LokaalWeergave lokaal,
+                            LocalDateTime datumTijd,
+                            Integer duurMinuten,
+                            BigDecimal prijs) {
+
+    public static EventWeergave van(Event event) {
+        return new EventWeergave(
+                event.getId(),
+                event.getNaam(),
+                event.getBeschrijving(),
+                event.getSprekers() != null ? List.copyOf(event.getSprekers()) : List.of(),
+                event.getLokaal() != null ? LokaalWeergave.van(event.getLokaal()) : null,
+                event.getDatumTijd(),
+                event.getDuurMinuten(),
+                event.getPrijs());
+    }
+
+    public static EventWeergave van(EventRij rij, List<String> sprekers) {
+        return new EventWeergave(
+                rij.id(),
+                rij.naam(),
+                rij.beschrijving(),
+                List.copyOf(sprekers),
+                new LokaalWeergave(rij.lokaalId(), rij.lokaalNaam(), rij.lokaalCapaciteit()),
+                rij.datumTijd(),
+                rij.duurMinuten(),
+                rij.prijs());
+    }
+}
@@ -0,0 +1,10 @@
+package domain;
+
+import java.util.List;
+
+/**
+ * De eerste treffers van een zoekopdracht, gesorteerd op (datumTijd, id). {@code totaal} telt alle treffers, tenzij
+ * {@code totaalBegrensd}: dan zijn er meer en is het totaal de grens waarop de index stopt met tellen.
+ */
+public record EventZoekResultaat(String zoekterm, int totaal, boolean totaalBegrensd, List<EventWeergave> events) {
+}
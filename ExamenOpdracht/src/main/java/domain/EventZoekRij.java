@@ -0,0 +1,13 @@
+package domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rij waarmee de zoekindex bij het opstarten gevuld wordt: één per (event, spreker), gesorteerd op id.
+ */
+public record EventZoekRij(Long id,
+                           String naam,
+                           String beschrijving,
+                           LocalDateTime datumTijd,
+                           String spreker) {
+}
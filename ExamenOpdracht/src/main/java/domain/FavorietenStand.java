@@ -0,0 +1,13 @@
+package domain;
+
+/**
+ * De favorieten van een gebruiker zoals één transactie ze las: de versie van de gebruiker, het aantal favorieten en
+ * of een bepaald event daar al bij zit.
+ */
+public record FavorietenStand(long versie, long aantal, boolean favoriet) {
+
+    // Constructor voor de JPQL-projectie: het derde getal telt de favorieten met het gevraagde event (0 of 1).
+    public FavorietenStand(long versie, long aantal, long metEvent) {
+        this(versie, aantal, metEvent > 0);
+    }
+}
@@ -0,0 +1,7 @@
+package domain;
+
+/**
+ * Antwoord op een inschrijving, met de plaatsen zoals ze er daarna voor staan.
+ */
+public record InschrijvingAntwoord(InschrijvingResultaat resultaat, EventPlaatsen plaatsen) {
+}
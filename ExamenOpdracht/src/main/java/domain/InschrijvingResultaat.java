@@ -0,0 +1,7 @@
+package domain;
+
+public enum InschrijvingResultaat {
+    INGESCHREVEN,
+    AL_INGESCHREVEN,
+    VOLZET
+}
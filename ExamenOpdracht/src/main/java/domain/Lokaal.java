@@ -1,14 +1,19 @@
 package domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import validation.ValidLokaalNaam;
 
 import java.util.List;
 
 @Entity
 @Table(name = "lokalen")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lokalen")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +22,8 @@ import java.util.List;
 public class Lokaal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lokalen_seq")
+    @SequenceGenerator(name = "lokalen_seq", sequenceName = "lokalen_seq", allocationSize = 50)
     private Long id;
 
     @ValidLokaalNaam
@@ -28,6 +34,7 @@ public class Lokaal {
     @Max(value = 50, message = "Capaciteit mag maximaal 50 zijn")
     private int capaciteit;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "lokaal")
     private List<Event> events;
 }
@@ -0,0 +1,11 @@
+package domain;
+
+/**
+ * Alleen-lezen weergave van een lokaal zoals het in het programma getoond wordt.
+ */
+public record LokaalWeergave(Long id, String naam, int capaciteit) {
+
+    public static LokaalWeergave van(Lokaal lokaal) {
+        return new LokaalWeergave(lokaal.getId(), lokaal.getNaam(), lokaal.getCapaciteit());
+    }
+}
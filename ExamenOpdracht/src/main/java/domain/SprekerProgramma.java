@@ -0,0 +1,9 @@
+package domain;
+
+import java.util.List;
+
+/**
+ * De events van één spreker in programmavolgorde, met de naam zoals de sprekersindex ze bewaart.
+ */
+public record SprekerProgramma(String spreker, List<EventWeergave> events) {
+}
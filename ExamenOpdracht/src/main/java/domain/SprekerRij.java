@@ -0,0 +1,9 @@
+package domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rij waarmee de sprekersindex bij het opstarten gevuld wordt: één per (event, spreker).
+ */
+public record SprekerRij(Long eventId, LocalDateTime datumTijd, String spreker) {
+}
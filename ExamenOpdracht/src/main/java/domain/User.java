@@ -3,6 +3,7 @@ package domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -17,7 +18,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @ToString.Include
@@ -32,7 +34,12 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
-    
+    // Gaat bij elke wijziging aan de favorieten omhoog, ook die via UserRepository buiten de entiteit om.
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long versie;
+
     @ManyToMany
     @JoinTable(
         name = "user_favorites",
@@ -41,6 +48,15 @@ public class User {
     )
     private Set<Event> favorieten = new HashSet<>();
 
+    // Enkel via UserRepository gelezen en geschreven; de bezette plaatsen telt events.ingeschreven.
+    @ManyToMany
+    @JoinTable(
+        name = "user_inschrijvingen",
+        joinColumns = @JoinColumn(name = "user_id"),
+        inverseJoinColumns = @JoinColumn(name = "event_id")
+    )
+    private Set<Event> inschrijvingen = new HashSet<>();
+
     public enum Role {
         ADMIN,
         USER
@@ -0,0 +1,11 @@
+package exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class EventNotFoundException extends RuntimeException {
+    public EventNotFoundException(Long id) {
+        super("Event met ID " + id + " niet gevonden");
+    }
+}
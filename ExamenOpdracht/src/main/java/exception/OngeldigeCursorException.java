@@ -0,0 +1,11 @@
+package exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class OngeldigeCursorException extends RuntimeException {
+    public OngeldigeCursorException(String cursor) {
+        super("Ongeldige cursor: " + cursor);
+    }
+}
@@ -0,0 +1,15 @@
+package exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class OngeldigeImportException extends RuntimeException {
+    public OngeldigeImportException(String boodschap) {
+        super(boodschap);
+    }
+
+    public OngeldigeImportException(String boodschap, Throwable oorzaak) {
+        super(boodschap, oorzaak);
+    }
+}
@@ -0,0 +1,13 @@
+package exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.LocalDateTime;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class OngeldigePeriodeException extends RuntimeException {
+    public OngeldigePeriodeException(LocalDateTime van, LocalDateTime tot) {
+        super("Ongeldige periode: " + van + " tot " + tot);
+    }
+}
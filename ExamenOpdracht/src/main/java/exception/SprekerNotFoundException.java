@@ -0,0 +1,11 @@
+package exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class SprekerNotFoundException extends RuntimeException {
+    public SprekerNotFoundException(String naam) {
+        super("Spreker " + naam + " niet gevonden");
+    }
+}
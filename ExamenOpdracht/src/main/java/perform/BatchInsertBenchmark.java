@@ -0,0 +1,103 @@
+package perform;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.Lokaal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventBulkRepository;
+import repository.EventRepository;
+import repository.LokaalRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Voegt een aantal events met elk twee sprekers toe met {@code EventRepository.saveAll}, in blokken van 1000 per
+ * transactie, en dat voor elke opgegeven {@code hibernate.jdbc.batch_size}. Batchgrootte 1 is het gedrag van vóór de
+ * gepoolde sequenties: met IDENTITY-sleutels één round trip per rij. Ter vergelijking meet elke ronde ook de
+ * JDBC-batches van {@link EventBulkRepository}, het pad van de import. Gebruik:
+ *
+ * <pre>
+ * java perform.BatchInsertBenchmark [aantal] [batchgroottes, bv. 1,50] [Spring-argumenten, bv. --spring.datasource.url=...]
+ * </pre>
+ */
+public class BatchInsertBenchmark {
+
+    private static final int BLOK = 1_000;
+    private static final LocalDateTime BEGIN = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    public static void main(String[] args) {
+        int aantal = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        String[] batchGroottes = (args.length > 1 ? args[1] : "1,50").split(",");
+        String[] springArgumenten = args.length > 2 ? Arrays.copyOfRange(args, 2, args.length) : new String[0];
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        for (String batchGrootte : batchGroottes) {
+            List<String> argumenten = new ArrayList<>(Arrays.asList(springArgumenten));
+            argumenten.add("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchGrootte.trim());
+            argumenten.add("--server.port=0");
+            argumenten.add("--logging.level.root=WARN");
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ExamenOpdrachtApplication.class)
+                    .run(argumenten.toArray(String[]::new))) {
+                meet(context, aantal, batchGrootte.trim());
+            }
+        }
+    }
+
+    private static void meet(ConfigurableApplicationContext context, int aantal, String batchGrootte) {
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        EventBulkRepository bulk = context.getBean(EventBulkRepository.class);
+        TransactionTemplate transactie = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Lokaal lokaal = context.getBean(LokaalRepository.class).findAll().get(0);
+        Statistics statistieken = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        meet("saveAll batch_size=" + batchGrootte, aantal, statistieken,
+                van -> transactie.executeWithoutResult(status -> eventRepository.saveAll(blok(lokaal, van, aantal))));
+        // De JDBC-statements van de import tellen niet mee in de Hibernate-statistieken, enkel de sequentie.
+        meet("import (JDBC)", aantal, statistieken,
+                van -> transactie.executeWithoutResult(status -> bulk.voegToe(blok(lokaal, van, aantal))));
+    }
+
+    private static void meet(String naam, int aantal, Statistics statistieken, IntConsumer voegBlokToe) {
+        // Opwarmen: klassen laden, JIT, eerste sequentieblokken.
+        voegBlokToe.accept(-BLOK);
+
+        long statements = statistieken.getPrepareStatementCount();
+        long start = System.nanoTime();
+        for (int van = 0; van < aantal; van += BLOK) {
+            voegBlokToe.accept(van);
+        }
+        double seconden = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-22s %d events + %d sprekers in %.2f s  %.0f events/s  %d Hibernate-statements%n",
+                naam, aantal, aantal * 2, seconden, aantal / seconden,
+                statistieken.getPrepareStatementCount() - statements);
+    }
+
+    // Events van..min(van + BLOK, totaal); het opwarmblok heeft negatieve nummers.
+    private static List<Event> blok(Lokaal lokaal, int van, int totaal) {
+        List<Event> events = new ArrayList<>(BLOK);
+        for (int i = van; i < Math.min(van + BLOK, totaal); i++) {
+            Event event = Event.nieuwEvent();
+            event.setNaam("Sessie " + i);
+            event.setBeschrijving("Gegenereerd");
+            event.setSprekers(new ArrayList<>(List.of("Spreker " + Math.floorMod(i, 500),
+                    "Co-spreker " + Math.floorMod(i, 71))));
+            event.setLokaal(lokaal);
+            event.setDatumTijd(BEGIN.plusMinutes(Math.floorMod(i, 30 * 24 * 60)));
+            event.setDuurMinuten(50);
+            event.setBeamerCode(1234);
+            event.setBeamerCheck(70);
+            events.add(event);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,162 @@
+package perform;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Vergelijkt de query achter {@code /api/events?datum=} vóór en na de omzetting naar een half-open bereik.
+ *
+ * Vult een aparte tabel {@code bench_events} met dezelfde indexen als {@link domain.Event} en meet daarna
+ * beide vormen van de dagquery. Gebruik:
+ *
+ * <pre>
+ * java perform.DatumQueryBenchmark [jdbcUrl] [gebruiker] [wachtwoord] [rijen] [metingen]
+ * </pre>
+ */
+public class DatumQueryBenchmark {
+
+    private static final String OUDE_QUERY =
+            "SELECT id, naam, datum_tijd, lokaal_id FROM bench_events WHERE DATE(datum_tijd) = ? ORDER BY datum_tijd, id";
+    private static final String NIEUWE_QUERY =
+            "SELECT id, naam, datum_tijd, lokaal_id FROM bench_events WHERE datum_tijd >= ? AND datum_tijd < ? ORDER BY datum_tijd, id";
+
+    private static final LocalDateTime BEGIN = LocalDateTime.of(2025, 6, 1, 8, 0);
+    private static final int DAGEN = 30;
+    private static final int BATCH = 5_000;
+
+    public static void main(String[] args) throws SQLException {
+        String url = args.length > 0 ? args[0]
+                : "jdbc:mysql://localhost:3306/jpaexamenopdracht?rewriteBatchedStatements=true&serverTimezone=UTC";
+        String gebruiker = args.length > 1 ? args[1] : "root";
+        String wachtwoord = args.length > 2 ? args[2] : "Wachtwoord15!";
+        int rijen = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+        int metingen = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+
+        try (Connection con = DriverManager.getConnection(url, gebruiker, wachtwoord)) {
+            vulTabel(con, rijen);
+
+            LocalDate datum = BEGIN.toLocalDate().plusDays(DAGEN / 2);
+            System.out.println("---- " + rijen + " rijen, " + metingen + " metingen ----");
+            meet(con, "DATE(datum_tijd) = ?        ", OUDE_QUERY, metingen, false);
+            meet(con, "datum_tijd >= ? AND < ?     ", NIEUWE_QUERY, metingen, true);
+            toonPlan(con, OUDE_QUERY, datum, false);
+            toonPlan(con, NIEUWE_QUERY, datum, true);
+        }
+    }
+
+    private static void vulTabel(Connection con, int rijen) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_events");
+            st.execute("CREATE TABLE bench_events (id BIGINT PRIMARY KEY, naam VARCHAR(255), "
+                    + "naam_genormaliseerd VARCHAR(255), datum_tijd DATETIME(6) NOT NULL, lokaal_id BIGINT NOT NULL)");
+        }
+
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+        Random random = new Random(42);
+        long minutenInVenster = DAGEN * 24L * 60L;
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO bench_events (id, naam, naam_genormaliseerd, datum_tijd, lokaal_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rijen; i++) {
+                String naam = "Sessie " + i;
+                ps.setLong(1, i);
+                ps.setString(2, naam);
+                ps.setString(3, naam.toLowerCase());
+                ps.setTimestamp(4, Timestamp.valueOf(BEGIN.plusMinutes(random.nextLong(minutenInVenster))));
+                ps.setLong(5, 1 + random.nextInt(500));
+                ps.addBatch();
+                if (i % BATCH == 0) {
+                    ps.executeBatch();
+                    con.commit();
+                }
+            }
+            ps.executeBatch();
+            con.commit();
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+
+        // Zelfde indexen als de JPA-mapping, pas na het laden aangemaakt zodat de inserts snel blijven.
+        try (Statement st = con.createStatement()) {
+            st.execute("CREATE INDEX idx_bench_datum_tijd ON bench_events (datum_tijd)");
+            st.execute("CREATE INDEX idx_bench_lokaal_datum_tijd ON bench_events (lokaal_id, datum_tijd)");
+            st.execute("CREATE INDEX idx_bench_naam_datum_tijd ON bench_events (naam_genormaliseerd, datum_tijd)");
+        }
+    }
+
+    private static void meet(Connection con, String label, String sql, int metingen, boolean bereik)
+            throws SQLException {
+        long[] tijden = new long[metingen];
+        long aantal = 0;
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            // Opwarmen: plan cachen en pagina's in de buffer pool laden.
+            for (int i = 0; i < 5; i++) {
+                voerUit(ps, dag(i), bereik);
+            }
+            // Elke meting vraagt een andere dag op, zodat geen enkele resultaatcache meespeelt.
+            for (int i = 0; i < metingen; i++) {
+                long start = System.nanoTime();
+                aantal += voerUit(ps, dag(i), bereik);
+                tijden[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(tijden);
+        System.out.printf("%s rijen/dag=%d  p50=%.2f ms  p99=%.2f ms  max=%.2f ms%n",
+                label, aantal / metingen,
+                tijden[metingen / 2] / 1e6,
+                tijden[Math.min(metingen - 1, (int) Math.ceil(metingen * 0.99) - 1)] / 1e6,
+                tijden[metingen - 1] / 1e6);
+    }
+
+    private static LocalDate dag(int meting) {
+        return BEGIN.toLocalDate().plusDays(meting % DAGEN);
+    }
+
+    private static int voerUit(PreparedStatement ps, LocalDate datum, boolean bereik) throws SQLException {
+        zetParameters(ps, datum, bereik);
+        int aantal = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                aantal++;
+            }
+        }
+        return aantal;
+    }
+
+    private static void zetParameters(PreparedStatement ps, LocalDate datum, boolean bereik) throws SQLException {
+        if (bereik) {
+            ps.setTimestamp(1, Timestamp.valueOf(datum.atStartOfDay()));
+            ps.setTimestamp(2, Timestamp.valueOf(datum.plusDays(1).atStartOfDay()));
+        } else {
+            ps.setObject(1, datum);
+        }
+    }
+
+    private static void toonPlan(Connection con, String sql, LocalDate datum, boolean bereik) {
+        try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+            zetParameters(ps, datum, bereik);
+            try (ResultSet rs = ps.executeQuery()) {
+                int kolommen = rs.getMetaData().getColumnCount();
+                System.out.println("EXPLAIN " + sql);
+                while (rs.next()) {
+                    StringBuilder regel = new StringBuilder("  ");
+                    for (int i = 1; i <= kolommen; i++) {
+                        regel.append(rs.getMetaData().getColumnLabel(i)).append('=').append(rs.getString(i)).append(' ');
+                    }
+                    System.out.println(regel);
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("EXPLAIN niet beschikbaar: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package perform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Laadt een synthetisch programma via {@code POST /api/events/import} en meet hoe lang dat duurt.
+ *
+ * Elk lokaal krijgt per dag van juni 2025 twaalf sessies van een uur; er worden zoveel lokalen (R000, R001, ...)
+ * aangemaakt als nodig. De server moet draaien met een klok vóór juni 2025, anders weigert de toekomstregel alles:
+ *
+ * <pre>
+ * java -jar app.jar --programma.klok=2025-05-01T00:00:00Z
+ * java perform.ImportBenchmark [aantal] [csv|json] [basis]
+ * </pre>
+ */
+public class ImportBenchmark {
+
+    private static final int SESSIES_PER_DAG = 12;
+    private static final int DAGEN = 30;
+
+    public static void main(String[] args) throws Exception {
+        int aantal = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        boolean json = args.length > 1 && args[1].equalsIgnoreCase("json");
+        String basis = args.length > 2 ? args[2] : "http://localhost:8080";
+
+        HttpClient client = HttpClient.newHttpClient();
+        String auth = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+        int lokalen = (aantal + SESSIES_PER_DAG * DAGEN - 1) / (SESSIES_PER_DAG * DAGEN);
+        for (int i = 0; i < lokalen; i++) {
+            // Bestaat het lokaal al, dan toont het formulier een fout; dat is hier goed genoeg.
+            client.send(HttpRequest.newBuilder(URI.create(basis + "/lokaal/toevoegen"))
+                            .header("Authorization", auth)
+                            .header("Content-Type", "application/x-www-form-urlencoded")
+                            .POST(HttpRequest.BodyPublishers.ofString("naam=" + lokaal(i) + "&capaciteit=50"))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+
+        byte[] body = (json ? json(aantal, lokalen) : csv(aantal, lokalen)).getBytes(StandardCharsets.UTF_8);
+        System.out.printf("%d events in %d lokalen, %s, %.1f MB%n",
+                aantal, lokalen, json ? "JSON" : "CSV", body.length / 1e6);
+
+        long start = System.nanoTime();
+        HttpResponse<String> antwoord = client.send(HttpRequest.newBuilder(URI.create(basis + "/api/events/import"))
+                        .header("Authorization", auth)
+                        .header("Content-Type", json ? "application/json" : "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        double seconden = (System.nanoTime() - start) / 1e9;
+
+        if (antwoord.statusCode() != 200) {
+            System.out.println("HTTP " + antwoord.statusCode() + ": " + antwoord.body());
+            return;
+        }
+        JsonNode rapport = new ObjectMapper().readTree(antwoord.body());
+        System.out.printf("geimporteerd=%d geweigerd=%d  server=%d ms  totaal=%.2f s  %.0f events/s%n",
+                rapport.get("geimporteerd").asInt(), rapport.get("geweigerd").asInt(), rapport.get("duurMs").asLong(),
+                seconden, rapport.get("geimporteerd").asInt() / seconden);
+        for (JsonNode rij : rapport.get("resultaten")) {
+            if (!rij.get("fouten").isEmpty()) {
+                System.out.println("eerste weigering: rij " + rij.get("rij") + " " + rij.get("fouten"));
+                break;
+            }
+        }
+    }
+
+    private static String csv(int aantal, int lokalen) {
+        StringBuilder csv = new StringBuilder(aantal * 100);
+        csv.append("naam,beschrijving,sprekers,lokaal,datumTijd,duurMinuten,beamerCode,beamerCheck,prijs\n");
+        for (int i = 0; i < aantal; i++) {
+            csv.append("Sessie ").append(i).append(",Gegenereerd,Spreker ").append(i % 500).append('|')
+                    .append("Co-spreker ").append(i % 71).append(',').append(lokaal(i % lokalen)).append(',')
+                    .append(tijdstip(i / lokalen)).append(",50,1234,70,19.99\n");
+        }
+        return csv.toString();
+    }
+
+    private static String json(int aantal, int lokalen) {
+        StringBuilder json = new StringBuilder(aantal * 200);
+        json.append('[');
+        for (int i = 0; i < aantal; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("{\"naam\":\"Sessie ").append(i).append("\",\"beschrijving\":\"Gegenereerd\",")
+                    .append("\"sprekers\":[\"Spreker ").append(i % 500).append("\",\"Co-spreker ").append(i % 71)
+                    .append("\"],\"lokaal\":\"").append(lokaal(i % lokalen)).append("\",\"datumTijd\":\"")
+                    .append(tijdstip(i / lokalen)).append("\",\"duurMinuten\":50,\"beamerCode\":1234,")
+                    .append("\"beamerCheck\":70,\"prijs\":19.99}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String lokaal(int i) {
+        return String.format("R%03d", i);
+    }
+
+    // Slot n van een lokaal: dag n / 12, uur 8 + n % 12.
+    private static LocalDateTime tijdstip(int slot) {
+        return LocalDateTime.of(2025, 6, 1 + slot / SESSIES_PER_DAG, 8 + slot % SESSIES_PER_DAG, 0);
+    }
+}
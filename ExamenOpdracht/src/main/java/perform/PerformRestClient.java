@@ -1,58 +1,365 @@
 package perform;
 
-import domain.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import domain.EventPagina;
+import domain.EventWeergave;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Lastgenerator voor de servlet-app.
+ *
+ * Twee modi: met {@code --rps} een open model dat aanvragen op vaste tijdstippen verstuurt (latentie gemeten vanaf
+ * het geplande tijdstip, dus zonder coordinated omission), anders een gesloten model met {@code --gelijktijdig}
+ * clients die telkens een nieuwe aanvraag sturen zodra de vorige klaar is. Elke aanvraag kiest een scenario volgens
+ * de gewichten in {@code --mix} en een sessie uit {@code --sessies} (formulier-login, sessiecookie).
+ *
+ * <pre>
+ * java perform.PerformRestClient --rps=200 --opwarmen=10 --meten=30 --mix=overzicht:4,details:3,dag:2,capaciteit:1
+ * java perform.PerformRestClient --gelijktijdig=100 --sessies=user:user,admin:admin --uitvoer=target/last.json
+ * </pre>
+ *
+ * Ids en datums voor de scenario's komen uit {@code /api/events}, zodat de tool werkt op elke dataset.
+ */
 public class PerformRestClient {
 
-    private final String SERVER_URI = "http://localhost:8080/api";
-    private final WebClient webClient = WebClient.create();
+    private static final Map<String, String> STANDAARD = Map.of(
+            "basis", "http://localhost:8080",
+            "rps", "0",
+            "gelijktijdig", "50",
+            "opwarmen", "10",
+            "meten", "30",
+            "mix", "overzicht:4,details:3,dag:2,capaciteit:1",
+            "sessies", "user:user,admin:admin",
+            "maxVerbindingen", "500",
+            "uitvoer", "target/perform-resultaat.json");
 
-    public static void main(String[] args) {
-        new PerformRestClient().run();
+    private final Map<String, String> config;
+    private final String basis;
+    private final WebClient webClient;
+    private final ConnectionProvider verbindingen;
+    private final List<Scenario> mix;
+    private final int totaalGewicht;
+
+    private List<String> sessieCookies = List.of();
+    private List<Long> eventIds = List.of();
+    private List<Long> lokaalIds = List.of();
+    private List<LocalDate> datums = List.of();
+    private final AtomicLong teller = new AtomicLong();
+
+    public PerformRestClient(Map<String, String> config) {
+        this.config = config;
+        this.basis = config.get("basis");
+        int gelijktijdig = Integer.parseInt(config.get("gelijktijdig"));
+        this.verbindingen = ConnectionProvider.builder("perform")
+                .maxConnections(Math.max(gelijktijdig, Integer.parseInt(config.get("maxVerbindingen"))))
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(basis)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(verbindingen)))
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+        this.mix = Scenario.parseMix(config.get("mix"));
+        this.totaalGewicht = mix.stream().mapToInt(Scenario::gewicht).sum();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> config = new HashMap<>(STANDAARD);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Verwacht --sleutel=waarde, kreeg: " + arg);
+            }
+            String sleutel = arg.substring(2, arg.indexOf('='));
+            if (!STANDAARD.containsKey(sleutel)) {
+                throw new IllegalArgumentException("Onbekende optie --" + sleutel + ", geldig: " + STANDAARD.keySet());
+            }
+            config.put(sleutel, arg.substring(arg.indexOf('=') + 1));
+        }
+        new PerformRestClient(config).run();
     }
 
-    public void run() {
-        System.out.println("---- GET EVENTS OP DATUM ----");
-        getEventsByDate(LocalDateTime.of(2025, 5, 17, 0, 0));
-        System.out.println("------------------------------");
+    public void run() throws IOException {
+        try {
+            sessieCookies = logIn(config.get("sessies"));
+            verkenData();
+
+            Duration opwarmen = Duration.ofSeconds(Long.parseLong(config.get("opwarmen")));
+            Duration meten = Duration.ofSeconds(Long.parseLong(config.get("meten")));
 
-        System.out.println("---- GET CAPACITEIT LOKAAL ID 1 ----");
-        getCapaciteitVoorLokaal(1L);
-        System.out.println("------------------------------------");
+            System.out.println("---- OPWARMEN " + opwarmen.toSeconds() + " s ----");
+            voerUit(opwarmen);
+            System.out.println("---- METEN " + meten.toSeconds() + " s ----");
+            Map<Scenario, Meting> metingen = voerUit(meten);
+
+            Map<String, Object> resultaat = resultaat(metingen, meten);
+            File uitvoer = new File(config.get("uitvoer"));
+            if (uitvoer.getParentFile() != null) {
+                uitvoer.getParentFile().mkdirs();
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(uitvoer, resultaat);
+            toon(metingen, meten);
+            System.out.println("Resultaat geschreven naar " + uitvoer.getAbsolutePath());
+        } finally {
+            verbindingen.dispose();
+        }
     }
 
-    private void getEventsByDate(LocalDateTime datum) {
-        webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .scheme("http")
-                        .host("localhost")
-                        .port(8080)
-                        .path("/api/events")
-                        .queryParam("datum", datum)
-                        .build())
-                .retrieve()
-                .bodyToFlux(Event.class)
-                .collectList()
-                .doOnNext(this::printEventList)
-                .block();
+    // Formulier-login zoals een browser; de sessiecookie na de redirect identificeert de gebruiker.
+    private List<String> logIn(String sessies) {
+        List<String> cookies = new ArrayList<>();
+        for (String sessie : sessies.split(",")) {
+            String[] delen = sessie.split(":", 2);
+            String cookie = webClient.post()
+                    .uri("/login")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(BodyInserters.fromFormData("username", delen[0]).with("password", delen[1]))
+                    .exchangeToMono(response -> {
+                        String locatie = response.headers().asHttpHeaders().getFirst("Location");
+                        ResponseCookie sessieCookie = response.cookies().getFirst("JSESSIONID");
+                        if (sessieCookie == null || (locatie != null && locatie.contains("error"))) {
+                            return response.releaseBody().then(Mono.error(
+                                    new IllegalStateException("Login mislukt voor " + delen[0])));
+                        }
+                        return response.releaseBody().thenReturn(sessieCookie.getValue());
+                    })
+                    .block();
+            cookies.add(cookie);
+            System.out.println("Ingelogd als " + delen[0]);
+        }
+        return List.copyOf(cookies);
     }
 
-    private void getCapaciteitVoorLokaal(Long lokaalId) {
-    	webClient.get()
-        		.uri(SERVER_URI + "/lokaal/" + lokaalId + "/capaciteit")
+    private void verkenData() {
+        EventPagina pagina = webClient.get()
+                .uri("/api/events?size=200")
+                .cookie("JSESSIONID", sessieCookies.get(0))
                 .retrieve()
-                .bodyToMono(Integer.class)
-                .doOnNext(cap -> System.out.println("Capaciteit lokaal " + lokaalId + ": " + cap))
+                .bodyToMono(EventPagina.class)
                 .block();
+        if (pagina == null || pagina.events().isEmpty()) {
+            throw new IllegalStateException("Geen events gevonden op " + basis + "/api/events");
+        }
+        eventIds = pagina.events().stream().map(EventWeergave::id).toList();
+        lokaalIds = pagina.events().stream().map(e -> e.lokaal().id()).distinct().toList();
+        datums = pagina.events().stream().map(e -> e.datumTijd().toLocalDate()).distinct().toList();
+        System.out.printf("Data: %d events, %d lokalen, %d dagen%n", eventIds.size(), lokaalIds.size(), datums.size());
+    }
+
+    private Map<Scenario, Meting> voerUit(Duration duur) {
+        Map<Scenario, Meting> metingen = new LinkedHashMap<>();
+        mix.forEach(s -> metingen.put(s, new Meting()));
+        long rps = Long.parseLong(config.get("rps"));
+        long einde = System.nanoTime() + duur.toNanos();
+
+        Flux<Void> last = rps > 0 ? openModel(metingen, rps, einde) : geslotenModel(metingen, einde);
+        last.blockLast(duur.plusMinutes(2));
+        return metingen;
+    }
+
+    // Aanvraag i is gepland op start + i/rps; een trage server schuift de planning niet op.
+    private Flux<Void> openModel(Map<Scenario, Meting> metingen, long rps, long einde) {
+        long start = System.nanoTime();
+        long periode = 1_000_000_000L / rps;
+        AtomicLong verstuurd = new AtomicLong();
+        return Flux.interval(Duration.ofMillis(1))
+                .takeWhile(t -> System.nanoTime() < einde)
+                .concatMapIterable(t -> {
+                    long verschuldigd = (System.nanoTime() - start) / periode;
+                    List<Long> gepland = new ArrayList<>();
+                    for (long i = verstuurd.get(); i < verschuldigd; i++) {
+                        gepland.add(start + i * periode);
+                    }
+                    verstuurd.set(Math.max(verstuurd.get(), verschuldigd));
+                    return gepland;
+                })
+                .flatMap(gepland -> aanvraag(metingen, gepland), Integer.MAX_VALUE);
+    }
+
+    private Flux<Void> geslotenModel(Map<Scenario, Meting> metingen, long einde) {
+        int gelijktijdig = Integer.parseInt(config.get("gelijktijdig"));
+        return Flux.range(0, gelijktijdig)
+                .flatMap(client -> Mono.defer(() -> aanvraag(metingen, System.nanoTime()))
+                        .repeat(() -> System.nanoTime() < einde), gelijktijdig);
+    }
+
+    private Mono<Void> aanvraag(Map<Scenario, Meting> metingen, long gepland) {
+        Scenario scenario = kies();
+        Meting meting = metingen.get(scenario);
+        String cookie = sessieCookies.get((int) (teller.getAndIncrement() % sessieCookies.size()));
+        return webClient.get()
+                .uri(uri(scenario))
+                .accept(scenario.accept())
+                .cookie("JSESSIONID", cookie)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .doOnNext(status -> {
+                    if (status.value() == HttpStatus.OK.value()) {
+                        meting.registreer(System.nanoTime() - gepland);
+                    } else {
+                        meting.fout();
+                    }
+                })
+                .onErrorResume(e -> {
+                    meting.fout();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Scenario kies() {
+        int r = ThreadLocalRandom.current().nextInt(totaalGewicht);
+        for (Scenario scenario : mix) {
+            r -= scenario.gewicht();
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return mix.get(mix.size() - 1);
     }
 
-    private void printEventList(List<Event> events) {
-        for (Event e : events) {
-            System.out.println("Event: " + e.getNaam() + ", Datum: " + e.getDatum());
+    private String uri(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario.naam()) {
+            case "overzicht" -> "/";
+            case "details" -> "/event/" + eventIds.get(random.nextInt(eventIds.size()));
+            case "dag" -> "/api/events?datum=" + datums.get(random.nextInt(datums.size()));
+            case "capaciteit" -> "/api/lokaal/" + lokaalIds.get(random.nextInt(lokaalIds.size())) + "/capaciteit";
+            default -> throw new IllegalArgumentException("Onbekend scenario: " + scenario.naam());
+        };
+    }
+
+    private Map<String, Object> resultaat(Map<Scenario, Meting> metingen, Duration meten) {
+        Map<String, Object> resultaat = new LinkedHashMap<>();
+        resultaat.put("tijdstip", LocalDateTime.now().toString());
+        resultaat.put("config", new TreeMap<>(config));
+        Map<String, Object> perScenario = new LinkedHashMap<>();
+        Meting totaal = new Meting();
+        metingen.forEach((scenario, meting) -> {
+            perScenario.put(scenario.naam(), meting.samenvatting(meten));
+            totaal.voegToe(meting);
+        });
+        resultaat.put("scenarios", perScenario);
+        resultaat.put("totaal", totaal.samenvatting(meten));
+        return resultaat;
+    }
+
+    private void toon(Map<Scenario, Meting> metingen, Duration meten) {
+        Meting totaal = new Meting();
+        metingen.forEach((scenario, meting) -> {
+            toonRegel(scenario.naam(), meting.samenvatting(meten));
+            totaal.voegToe(meting);
+        });
+        toonRegel("totaal", totaal.samenvatting(meten));
+    }
+
+    private static void toonRegel(String naam, Map<String, Object> s) {
+        System.out.printf("%-11s aanvragen/s=%8.1f ok=%7s fouten=%5s p50=%8.2f ms p99=%8.2f ms p99.9=%8.2f ms max=%8.2f ms%n",
+                naam, s.get("aanvragenPerSeconde"), s.get("ok"), s.get("fouten"),
+                s.get("p50Ms"), s.get("p99Ms"), s.get("p999Ms"), s.get("maxMs"));
+    }
+
+    private record Scenario(String naam, int gewicht) {
+
+        static List<Scenario> parseMix(String mix) {
+            List<Scenario> scenarios = new ArrayList<>();
+            for (String deel : mix.split(",")) {
+                String[] naamGewicht = deel.split(":");
+                int gewicht = naamGewicht.length > 1 ? Integer.parseInt(naamGewicht[1]) : 1;
+                if (gewicht > 0) {
+                    scenarios.add(new Scenario(naamGewicht[0].trim(), gewicht));
+                }
+            }
+            if (scenarios.isEmpty()) {
+                throw new IllegalArgumentException("Lege mix: " + mix);
+            }
+            return List.copyOf(scenarios);
+        }
+
+        MediaType accept() {
+            return switch (naam) {
+                case "overzicht", "details" -> MediaType.TEXT_HTML;
+                case "dag" -> MediaType.APPLICATION_NDJSON;
+                default -> MediaType.APPLICATION_JSON;
+            };
+        }
+    }
+
+    /**
+     * Alle latenties in nanoseconden; percentielen worden exact berekend op de gesorteerde reeks.
+     */
+    private static final class Meting {
+
+        private long[] latenties = new long[1024];
+        private int aantal;
+        private long fouten;
+
+        synchronized void registreer(long nanos) {
+            if (aantal == latenties.length) {
+                latenties = Arrays.copyOf(latenties, aantal * 2);
+            }
+            latenties[aantal++] = nanos;
+        }
+
+        synchronized void fout() {
+            fouten++;
+        }
+
+        synchronized void voegToe(Meting andere) {
+            synchronized (andere) {
+                for (int i = 0; i < andere.aantal; i++) {
+                    registreer(andere.latenties[i]);
+                }
+                fouten += andere.fouten;
+            }
+        }
+
+        synchronized Map<String, Object> samenvatting(Duration meten) {
+            long[] gesorteerd = Arrays.copyOf(latenties, aantal);
+            Arrays.sort(gesorteerd);
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("ok", aantal);
+            s.put("fouten", fouten);
+            s.put("aanvragenPerSeconde", aantal / (double) meten.toSeconds());
+            s.put("gemiddeldeMs", aantal == 0 ? Double.NaN : Arrays.stream(gesorteerd).average().orElse(0) / 1e6);
+            s.put("p50Ms", percentiel(gesorteerd, 0.50));
+            s.put("p90Ms", percentiel(gesorteerd, 0.90));
+            s.put("p99Ms", percentiel(gesorteerd, 0.99));
+            s.put("p999Ms", percentiel(gesorteerd, 0.999));
+            s.put("maxMs", percentiel(gesorteerd, 1.0));
+            return s;
+        }
+
+        private static double percentiel(long[] gesorteerd, double p) {
+            if (gesorteerd.length == 0) {
+                return Double.NaN;
+            }
+            int i = Math.min(gesorteerd.length - 1, Math.max(0, (int) Math.ceil(gesorteerd.length * p) - 1));
+            return gesorteerd[i] / 1e6;
         }
     }
-}
\ No newline at end of file
+}
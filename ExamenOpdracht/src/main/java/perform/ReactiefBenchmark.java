@@ -0,0 +1,117 @@
+package perform;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vergelijkt de blokkerende MVC-API (poort 8080) met de reactieve API uit {@code reactive.ReactieveApiApplication} (poort 8081).
+ *
+ * Elke client vraagt de events van één dag op als NDJSON en leest ze trager dan de server ze kan leveren, zoals een
+ * mobiele client op een slechte verbinding. De blokkerende server houdt zolang een thread en een JDBC-verbinding vast;
+ * de reactieve server niet. Gebruik:
+ *
+ * <pre>
+ * java perform.ReactiefBenchmark [gelijktijdig] [aanvragenPerClient] [vertragingMsPerEvent] [datum]
+ * </pre>
+ */
+public class ReactiefBenchmark {
+
+    private static final String BLOKKEREND = "http://localhost:8080";
+    private static final String REACTIEF = "http://localhost:8081";
+
+    public static void main(String[] args) {
+        int gelijktijdig = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int aanvragenPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Duration vertraging = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 20);
+        LocalDate datum = args.length > 3 ? LocalDate.parse(args[3]) : LocalDate.of(2025, 6, 10);
+
+        ConnectionProvider verbindingen = ConnectionProvider.builder("benchmark")
+                .maxConnections(gelijktijdig)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(5))
+                .build();
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(verbindingen)))
+                .defaultHeaders(h -> h.setBasicAuth("user", "user"))
+                .build();
+
+        try {
+            System.out.println("---- " + gelijktijdig + " clients x " + aanvragenPerClient + " aanvragen, "
+                    + vertraging.toMillis() + " ms per event ----");
+            meet(webClient, "blokkerend (MVC + JPA)  ", BLOKKEREND, datum, gelijktijdig, aanvragenPerClient, vertraging);
+            meet(webClient, "reactief (WebFlux + R2DBC)", REACTIEF, datum, gelijktijdig, aanvragenPerClient, vertraging);
+        } finally {
+            verbindingen.dispose();
+        }
+    }
+
+    private static void meet(WebClient webClient, String label, String basis, LocalDate datum,
+                             int gelijktijdig, int aanvragenPerClient, Duration vertraging) {
+        // Opwarmen: JIT, verbindingspools en plannen aan beide kanten.
+        Flux.range(0, Math.min(gelijktijdig, 50))
+                .flatMap(i -> aanvraag(webClient, basis, datum, Duration.ZERO).onErrorResume(e -> Mono.empty()))
+                .blockLast();
+
+        int totaal = gelijktijdig * aanvragenPerClient;
+        long[] tijden = new long[totaal];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger fouten = new AtomicInteger();
+        AtomicInteger events = new AtomicInteger();
+
+        long start = System.nanoTime();
+        Flux.range(0, totaal)
+                .flatMap(i -> {
+                    long begin = System.nanoTime();
+                    return aanvraag(webClient, basis, datum, vertraging)
+                            .doOnNext(aantal -> {
+                                events.addAndGet(aantal);
+                                tijden[index.getAndIncrement()] = System.nanoTime() - begin;
+                            })
+                            .onErrorResume(e -> {
+                                fouten.incrementAndGet();
+                                return Mono.empty();
+                            });
+                }, gelijktijdig)
+                .blockLast();
+        double seconden = (System.nanoTime() - start) / 1e9;
+
+        int gelukt = index.get();
+        long[] gemeten = Arrays.copyOf(tijden, gelukt);
+        Arrays.sort(gemeten);
+        System.out.printf("%s aanvragen/s=%.1f  events=%d  fouten=%d  p50=%.1f ms  p99=%.1f ms  max=%.1f ms%n",
+                label, gelukt / seconden, events.get(), fouten.get(),
+                percentiel(gemeten, 0.50), percentiel(gemeten, 0.99), percentiel(gemeten, 1.0));
+    }
+
+    // Leest één event per keer (limitRate(1)) en wacht na elk event, zodat de server de trage lezer moet bijhouden.
+    private static Mono<Integer> aanvraag(WebClient webClient, String basis, LocalDate datum, Duration vertraging) {
+        Flux<String> regels = webClient.get()
+                .uri(basis + "/api/events?datum={datum}", datum)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .limitRate(1);
+        if (!vertraging.isZero()) {
+            regels = regels.delayElements(vertraging);
+        }
+        return regels.count().map(Long::intValue);
+    }
+
+    private static double percentiel(long[] gesorteerd, double p) {
+        if (gesorteerd.length == 0) {
+            return Double.NaN;
+        }
+        int i = Math.min(gesorteerd.length - 1, Math.max(0, (int) Math.ceil(gesorteerd.length * p) - 1));
+        return gesorteerd[i] / 1e6;
+    }
+}
@@ -0,0 +1,29 @@
+package reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Niet-blokkerende leeskant van de publieke API: {@code /api/events?datum=} en {@code /api/lokaal/{id}/capaciteit}
+ * op Netty en R2DBC. Draait als apart proces naast de servlet-app en leest dezelfde databank.
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class
+})
+public class ReactieveApiApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactieveApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("server.port=${reactive.port:8081}")
+                .run(args);
+    }
+}
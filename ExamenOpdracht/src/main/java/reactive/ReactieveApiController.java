@@ -0,0 +1,35 @@
+package reactive;
+
+import domain.EventWeergave;
+import exception.LokaalNotFoundException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+public class ReactieveApiController {
+
+    private final ReactieveEventRepository eventRepository;
+
+    public ReactieveApiController(ReactieveEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    // Met Accept: application/x-ndjson streamt WebFlux elk event apart, met backpressure naar de databank.
+    @GetMapping(value = "/events", params = "datum")
+    public Flux<EventWeergave> getEventsByDate(
+            @RequestParam("datum")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate datum) {
+        return eventRepository.findByDatum(datum);
+    }
+
+    @GetMapping("/lokaal/{id}/capaciteit")
+    public Mono<Integer> getLokaalCapaciteit(@PathVariable Long id) {
+        return eventRepository.findCapaciteit(id)
+                .switchIfEmpty(Mono.error(() -> new LokaalNotFoundException(id)));
+    }
+}
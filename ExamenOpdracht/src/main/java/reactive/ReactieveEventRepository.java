@@ -0,0 +1,73 @@
+package reactive;
+
+import domain.EventRij;
+import domain.EventWeergave;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * R2DBC-tegenhanger van de leesqueries in {@link repository.EventRepository}; zelfde tabellen, zelfde indexen.
+ */
+@Repository
+public class ReactieveEventRepository {
+
+    private static final String EVENTS_OP_DATUM = """
+            SELECT e.id, e.naam, e.beschrijving, l.id AS lokaal_id, l.naam AS lokaal_naam, l.capaciteit,
+                   e.datum_tijd, e.duur_minuten, e.prijs, s.sprekers AS spreker
+            FROM events e
+            JOIN lokalen l ON l.id = e.lokaal_id
+            LEFT JOIN event_sprekers s ON s.event_id = e.id
+            WHERE e.datum_tijd >= :van AND e.datum_tijd < :tot
+            ORDER BY e.datum_tijd, e.id""";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactieveEventRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<EventWeergave> findByDatum(LocalDate datum) {
+        return databaseClient.sql(EVENTS_OP_DATUM)
+                .bind("van", datum.atStartOfDay())
+                .bind("tot", datum.plusDays(1).atStartOfDay())
+                .map(ReactieveEventRepository::naarRij)
+                .all()
+                // Eén rij per spreker: opeenvolgende rijen van hetzelfde event samenvoegen.
+                .bufferUntilChanged(EventRij::id)
+                .map(rijen -> EventWeergave.van(rijen.get(0), sprekers(rijen)));
+    }
+
+    public Mono<Integer> findCapaciteit(Long lokaalId) {
+        return databaseClient.sql("SELECT capaciteit FROM lokalen WHERE id = :id")
+                .bind("id", lokaalId)
+                .map(row -> row.get("capaciteit", Integer.class))
+                .one();
+    }
+
+    private static EventRij naarRij(Readable row) {
+        return new EventRij(
+                row.get("id", Long.class),
+                row.get("naam", String.class),
+                row.get("beschrijving", String.class),
+                row.get("lokaal_id", Long.class),
+                row.get("lokaal_naam", String.class),
+                row.get("capaciteit", Integer.class),
+                row.get("datum_tijd", LocalDateTime.class),
+                row.get("duur_minuten", Integer.class),
+                row.get("prijs", BigDecimal.class),
+                row.get("spreker", String.class));
+    }
+
+    private static List<String> sprekers(List<EventRij> rijen) {
+        return rijen.stream().map(EventRij::spreker).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,141 @@
+package repository;
+
+import domain.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schrijft events in JDBC-batches, buiten de persistence context om.
+ *
+ * De ids komen uit dezelfde gepoolde sequentie als bij {@code persist}, zodat een blok events in één executeBatch
+ * gaat zonder per rij een entiteit te beheren. Op MySQL maakt {@code rewriteBatchedStatements=true} er één INSERT
+ * met meerdere rijen van. Moet binnen een transactie draaien.
+ *
+ * Omdat Hibernate deze inserts niet ziet, gaan de gecachte queryresultaten na afloop van de transactie weg; de
+ * entiteitregio's bevatten de nieuwe events nog niet en blijven geldig.
+ */
+@Repository
+public class EventBulkRepository {
+
+    private static final String INSERT_EVENT = "INSERT INTO events "
+            + "(id, naam, naam_genormaliseerd, beschrijving, lokaal_id, datum_tijd, duur_minuten, beamer_code, "
+            + "beamer_check, prijs) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SPREKER = "INSERT INTO event_sprekers (event_id, sprekers) VALUES (?, ?)";
+    private static final String NAAM_DAGEN = "SELECT naam_genormaliseerd, datum_tijd FROM events "
+            + "WHERE naam_genormaliseerd IN (:namen)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManager entityManager;
+    private final Cache cache;
+
+    public EventBulkRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+                               EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.entityManager = entityManager;
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    /**
+     * Voegt de events en hun sprekers toe en zet het gegenereerde id op elk event.
+     */
+    public void voegToe(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        SharedSessionContractImplementor sessie = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) sessie.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Event.class).getGenerator();
+        for (Event event : events) {
+            event.setId((Long) generator.generate(sessie, event, null, EventType.INSERT));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Event event = events.get(i);
+                ps.setLong(1, event.getId());
+                ps.setString(2, event.getNaam());
+                ps.setString(3, Event.normaliseer(event.getNaam()));
+                ps.setString(4, event.getBeschrijving());
+                ps.setLong(5, event.getLokaal().getId());
+                ps.setTimestamp(6, Timestamp.valueOf(event.getDatumTijd()));
+                ps.setObject(7, event.getDuurMinuten(), Types.INTEGER);
+                ps.setObject(8, event.getBeamerCode(), Types.INTEGER);
+                ps.setInt(9, event.getBeamerCheck());
+                ps.setBigDecimal(10, event.getPrijs());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+
+        List<Object[]> sprekers = new ArrayList<>(events.size() * 2);
+        for (Event event : events) {
+            for (String spreker : event.getSprekers()) {
+                if (spreker != null && !spreker.isBlank()) {
+                    sprekers.add(new Object[]{event.getId(), spreker});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SPREKER, sprekers);
+        verwijderQueryResultaten();
+    }
+
+    // Na de transactie, zodat een gelijktijdige lezer geen resultaat van vóór de commit opnieuw in de cache zet.
+    private void verwijderQueryResultaten() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictQueryRegions();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evictQueryRegions();
+            }
+        });
+    }
+
+    /**
+     * Bestaande (genormaliseerde naam, dag)-paren voor de gegeven namen, als {@code naam|jjjj-mm-dd}.
+     */
+    public Set<String> findNaamDagen(Collection<String> genormaliseerdeNamen) {
+        Set<String> naamDagen = new HashSet<>();
+        if (genormaliseerdeNamen.isEmpty()) {
+            return naamDagen;
+        }
+        namedJdbcTemplate.query(NAAM_DAGEN, Map.of("namen", genormaliseerdeNamen), rs -> {
+            naamDagen.add(naamDag(rs.getString(1), rs.getTimestamp(2).toLocalDateTime().toLocalDate()));
+        });
+        return naamDagen;
+    }
+
+    public static String naamDag(String genormaliseerdeNaam, LocalDate dag) {
+        return genormaliseerdeNaam + "|" + dag;
+    }
+}
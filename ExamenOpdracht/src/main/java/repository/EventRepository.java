@@ -1,26 +1,105 @@
 package repository;
 
 import domain.Event;
-import domain.Lokaal;
+import domain.EventPlaatsen;
+import domain.EventRij;
+import domain.EventTijdslot;
+import domain.EventZoekRij;
+import domain.SprekerRij;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findAllByOrderByDatumTijdAsc();
-    
-    @Query("SELECT e FROM Event e WHERE FUNCTION('DATE', e.datumTijd) = :datum")
-    List<Event> findByDatum(@Param("datum") LocalDate datum);
-    
-    Optional<Event> findByDatumTijdAndLokaal(LocalDateTime datumTijd, Lokaal lokaal);
+    // De querycache bewaart enkel ids; de events, lokalen en sprekers komen dan uit hun eigen cacheregio.
+    @Query("SELECT e FROM Event e JOIN FETCH e.lokaal LEFT JOIN FETCH e.sprekers "
+            + "WHERE e.datumTijd >= :van AND e.datumTijd < :tot "
+            + "ORDER BY e.datumTijd ASC, e.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "programma-queries")
+    })
+    List<Event> findByDatumTijdVanafTot(@Param("van") LocalDateTime van, @Param("tot") LocalDateTime tot);
+
+    // Scalaire rijen in plaats van entiteiten: de persistence context groeit niet mee met het resultaat.
+    @Query("SELECT new domain.EventRij(e.id, e.naam, e.beschrijving, l.id, l.naam, l.capaciteit, "
+            + "e.datumTijd, e.duurMinuten, e.prijs, s) "
+            + "FROM Event e JOIN e.lokaal l LEFT JOIN e.sprekers s "
+            + "WHERE e.datumTijd >= :van AND e.datumTijd < :tot "
+            + "ORDER BY e.datumTijd ASC, e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EventRij> streamByDatumTijdVanafTot(@Param("van") LocalDateTime van, @Param("tot") LocalDateTime tot);
+
+    @Query("SELECT new domain.EventRij(e.id, e.naam, e.beschrijving, l.id, l.naam, l.capaciteit, "
+            + "e.datumTijd, e.duurMinuten, e.prijs, s) "
+            + "FROM User u JOIN u.favorieten e JOIN e.lokaal l LEFT JOIN e.sprekers s "
+            + "WHERE u.id = :userId "
+            + "ORDER BY e.datumTijd ASC, e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EventRij> streamFavorieten(@Param("userId") Long userId);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.lokaal LEFT JOIN FETCH e.sprekers WHERE e.id = :id")
+    Optional<Event> findWeergaveById(@Param("id") Long id);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.lokaal LEFT JOIN FETCH e.sprekers WHERE e.id IN :ids")
+    List<Event> findWeergavenByIds(@Param("ids") Collection<Long> ids);
+
+    // Initialiseert de sprekers van een reeds geladen pagina in één statement.
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.sprekers WHERE e IN :events")
+    List<Event> laadSprekers(@Param("events") List<Event> events);
     
-    List<Event> findByNaamIgnoreCaseAndDatumTijdBetween(String naam, LocalDateTime start, LocalDateTime end);
+    @Query("SELECT new domain.EventTijdslot(e.id, e.lokaal.id, e.datumTijd, e.duurMinuten) FROM Event e")
+    Stream<EventTijdslot> streamTijdsloten();
+
+    @Query("SELECT new domain.EventZoekRij(e.id, e.naam, e.beschrijving, e.datumTijd, s) "
+            + "FROM Event e LEFT JOIN e.sprekers s ORDER BY e.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EventZoekRij> streamZoekRijen();
+
+    @Query("SELECT new domain.SprekerRij(e.id, e.datumTijd, s) FROM Event e JOIN e.sprekers s")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<SprekerRij> streamSprekerRijen();
+
+    @Query("SELECT e FROM Event e "
+            + "WHERE e.naamGenormaliseerd = :naam AND e.datumTijd >= :van AND e.datumTijd < :tot")
+    List<Event> findByGenormaliseerdeNaamEnDatumTijd(@Param("naam") String genormaliseerdeNaam,
+                                                     @Param("van") LocalDateTime van,
+                                                     @Param("tot") LocalDateTime tot);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.lokaal "
+            + "WHERE (e.datumTijd > :naDatumTijd OR (e.datumTijd = :naDatumTijd AND e.id > :naId)) "
+            + "AND e.datumTijd < :tot "
+            + "ORDER BY e.datumTijd ASC, e.id ASC")
+    List<Event> findVolgendePagina(@Param("naDatumTijd") LocalDateTime naDatumTijd,
+                                   @Param("naId") Long naId,
+                                   @Param("tot") LocalDateTime tot,
+                                   Limit limit);
 
+    @Query("SELECT new domain.EventPlaatsen(e.id, e.lokaal.capaciteit, e.ingeschreven) FROM Event e WHERE e.id = :id")
+    Optional<EventPlaatsen> findPlaatsen(@Param("id") Long id);
 
+    /**
+     * Neemt één plaats als het lokaal van het event er nog heeft, in één statement. De rijvergrendeling laat
+     * gelijktijdige inschrijvingen voor hetzelfde event één voor één door de voorwaarde gaan: overboeken kan niet.
+     * Geeft het aantal gewijzigde rijen terug (0 of 1). {@code ingeschreven} hoort bij de gecachte toestand van
+     * {@link Event}: de tabelhint laat Hibernate de events-regio en de programmaquery's na de commit vergeten.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
+    @Query(value = "UPDATE events SET ingeschreven = ingeschreven + 1 WHERE id = :id "
+            + "AND ingeschreven < (SELECT l.capaciteit FROM lokalen l WHERE l.id = events.lokaal_id)",
+            nativeQuery = true)
+    int boekPlaats(@Param("id") Long id);
 }
@@ -1,10 +1,79 @@
 package repository;
 
+import domain.FavorietenStand;
 import domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // Favorieten rechtstreeks op de koppeltabel: User.favorieten hoeft hiervoor niet geladen te worden.
+    @Query(value = "SELECT COUNT(*) FROM user_favorites WHERE user_id = :userId", nativeQuery = true)
+    long telFavorieten(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM user_favorites WHERE user_id = :userId AND event_id = :eventId",
+            nativeQuery = true)
+    long telFavoriet(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    @Query(value = "SELECT event_id FROM user_favorites WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findFavorietIds(@Param("userId") Long userId);
+
+    @Query("SELECT new domain.FavorietenStand(u.versie, COUNT(f), COUNT(CASE WHEN f.id = :eventId THEN 1 END)) "
+            + "FROM User u LEFT JOIN u.favorieten f WHERE u.id = :userId GROUP BY u.versie")
+    Optional<FavorietenStand> findFavorietenStand(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    /**
+     * Verhoogt de versie van de gebruiker als die nog gelijk is aan {@code versie}; de rijvergrendeling laat een
+     * gelijktijdige wijziging wachten tot deze transactie afloopt. Geeft 0 terug als iemand anders voor was.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "UPDATE users SET versie = versie + 1 WHERE id = :userId AND versie = :versie", nativeQuery = true)
+    int verhoogVersie(@Param("userId") Long userId, @Param("versie") long versie);
+
+    /**
+     * Voegt de favoriet toe als hij nog niet bestaat en de gebruiker onder de limiet zit, in één statement.
+     * Geeft het aantal toegevoegde rijen terug (0 of 1). Zonder de tabelhint zou Hibernate bij deze native DML
+     * de hele tweede-niveaucache en querycache leegmaken. Enkel veilig tegen gelijktijdige klikken na
+     * {@link #verhoogVersie}: zonder die vergrendeling kunnen twee transacties allebei onder de limiet tellen.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_favorites"))
+    @Query(value = "INSERT INTO user_favorites (user_id, event_id) "
+            + "SELECT :userId, :eventId FROM DUAL "
+            + "WHERE (SELECT COUNT(*) FROM user_favorites WHERE user_id = :userId) < :limiet "
+            + "AND NOT EXISTS (SELECT 1 FROM user_favorites WHERE user_id = :userId AND event_id = :eventId)",
+            nativeQuery = true)
+    int voegFavorietToeOnderLimiet(@Param("userId") Long userId, @Param("eventId") Long eventId,
+                                   @Param("limiet") int limiet);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_favorites"))
+    @Query(value = "DELETE FROM user_favorites WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+    int verwijderFavoriet(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    @Query(value = "SELECT COUNT(*) FROM user_inschrijvingen WHERE user_id = :userId AND event_id = :eventId",
+            nativeQuery = true)
+    long telInschrijving(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    /**
+     * Schrijft de gebruiker in als hij dat nog niet was; de plaats zelf neemt {@code EventRepository.boekPlaats}.
+     * Geeft het aantal toegevoegde rijen terug (0 of 1).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_inschrijvingen"))
+    @Query(value = "INSERT INTO user_inschrijvingen (user_id, event_id) "
+            + "SELECT :userId, :eventId FROM DUAL "
+            + "WHERE NOT EXISTS (SELECT 1 FROM user_inschrijvingen WHERE user_id = :userId AND event_id = :eventId)",
+            nativeQuery = true)
+    int voegInschrijvingToe(@Param("userId") Long userId, @Param("eventId") Long eventId);
 }
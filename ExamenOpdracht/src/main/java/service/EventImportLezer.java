@@ -0,0 +1,207 @@
+package service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import exception.OngeldigeImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Leest importrecords één voor één uit de request body, zonder de hele invoer in het geheugen te zetten.
+ *
+ * Beide formaten leveren een {@link JsonNode} per record; de omzetting naar {@code EventImportRij} gebeurt pas
+ * tijdens de (parallelle) validatie, zodat een ongeldige waarde maar één rij kost.
+ */
+final class EventImportLezer {
+
+    static final String SPREKER_SCHEIDING = "|";
+
+    private EventImportLezer() {
+    }
+
+    /**
+     * JSON-array van objecten met de velden van {@code EventImportRij}.
+     */
+    static Iterator<JsonNode> json(InputStream invoer, ObjectMapper objectMapper) {
+        try {
+            JsonParser parser = objectMapper.createParser(invoer);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new OngeldigeImportException("Verwacht een JSON-array van events.");
+            }
+            return new Iterator<>() {
+                private JsonToken volgende = lees();
+
+                private JsonToken lees() {
+                    try {
+                        JsonToken token = parser.nextToken();
+                        if (token != JsonToken.START_OBJECT && token != JsonToken.END_ARRAY) {
+                            throw new OngeldigeImportException("Verwacht een JSON-object, maar vond " + token + ".");
+                        }
+                        return token;
+                    } catch (IOException e) {
+                        throw new OngeldigeImportException("Onleesbare JSON: " + e.getMessage(), e);
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return volgende == JsonToken.START_OBJECT;
+                }
+
+                @Override
+                public JsonNode next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    try {
+                        JsonNode record = objectMapper.readTree(parser);
+                        volgende = lees();
+                        return record;
+                    } catch (IOException e) {
+                        throw new OngeldigeImportException("Onleesbare JSON: " + e.getMessage(), e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new OngeldigeImportException("Onleesbare JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * CSV met kopregel (veldnamen van {@code EventImportRij}), gescheiden door komma of puntkomma. Sprekers staan in
+     * één kolom, gescheiden door {@value #SPREKER_SCHEIDING}. Lege cellen tellen als ontbrekend.
+     */
+    static Iterator<JsonNode> csv(Reader invoer) {
+        CsvLezer lezer = new CsvLezer(new BufferedReader(invoer));
+        List<String> kop = lezer.volgende();
+        if (kop == null || kop.isEmpty()) {
+            throw new OngeldigeImportException("De CSV heeft geen kopregel.");
+        }
+        return new Iterator<>() {
+            private List<String> volgende = lezer.volgende();
+
+            @Override
+            public boolean hasNext() {
+                return volgende != null;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ObjectNode record = JsonNodeFactory.instance.objectNode();
+                for (int i = 0; i < kop.size() && i < volgende.size(); i++) {
+                    String waarde = volgende.get(i).trim();
+                    if (waarde.isEmpty()) {
+                        continue;
+                    }
+                    String veld = kop.get(i).trim();
+                    if (veld.equals("sprekers")) {
+                        ArrayNode sprekers = record.putArray(veld);
+                        for (String spreker : waarde.split("\\" + SPREKER_SCHEIDING)) {
+                            sprekers.add(spreker.trim());
+                        }
+                    } else {
+                        record.put(veld, waarde);
+                    }
+                }
+                volgende = lezer.volgende();
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Minimale RFC 4180-lezer: velden tussen dubbele aanhalingstekens mogen scheidingstekens, {@code ""} en
+     * regeleinden bevatten. Het scheidingsteken wordt uit de kopregel afgeleid.
+     */
+    private static final class CsvLezer {
+
+        private final BufferedReader invoer;
+        private char scheiding;
+
+        CsvLezer(BufferedReader invoer) {
+            this.invoer = invoer;
+        }
+
+        List<String> volgende() {
+            try {
+                if (scheiding == 0) {
+                    invoer.mark(8192);
+                    String kop = invoer.readLine();
+                    invoer.reset();
+                    if (kop == null) {
+                        return null;
+                    }
+                    scheiding = kop.indexOf(';') >= 0 && kop.indexOf(',') < 0 ? ';' : ',';
+                }
+                return leesRecord();
+            } catch (IOException e) {
+                throw new OngeldigeImportException("Onleesbare CSV: " + e.getMessage(), e);
+            }
+        }
+
+        // Lege regels (bv. een afsluitende newline) overslaan, in een lus: ook duizenden na elkaar kosten geen stack.
+        private List<String> leesRecord() throws IOException {
+            List<String> velden;
+            do {
+                velden = leesRegel();
+            } while (velden != null && velden.size() == 1 && velden.get(0).isBlank());
+            return velden;
+        }
+
+        private List<String> leesRegel() throws IOException {
+            List<String> velden = new ArrayList<>();
+            StringBuilder veld = new StringBuilder();
+            boolean tussenAanhalingstekens = false;
+            boolean iets = false;
+            int c;
+            while ((c = invoer.read()) != -1) {
+                iets = true;
+                if (tussenAanhalingstekens) {
+                    if (c == '"') {
+                        invoer.mark(1);
+                        if (invoer.read() == '"') {
+                            veld.append('"');
+                        } else {
+                            invoer.reset();
+                            tussenAanhalingstekens = false;
+                        }
+                    } else {
+                        veld.append((char) c);
+                    }
+                } else if (c == '"') {
+                    tussenAanhalingstekens = true;
+                } else if (c == scheiding) {
+                    velden.add(veld.toString());
+                    veld.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    veld.append((char) c);
+                }
+            }
+            if (tussenAanhalingstekens) {
+                throw new OngeldigeImportException("Onleesbare CSV: aanhalingsteken niet afgesloten.");
+            }
+            if (!iets) {
+                return null;
+            }
+            velden.add(veld.toString());
+            return velden;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package service;
+
+import domain.EventImportRapport;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Locale;
+
+public interface EventImportService {
+    EventImportRapport importeerCsv(Reader csv, Locale locale);
+    EventImportRapport importeerJson(InputStream json, Locale locale);
+}
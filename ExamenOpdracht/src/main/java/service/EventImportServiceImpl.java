@@ -0,0 +1,259 @@
+package service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.Event;
+import domain.EventImportRapport;
+import domain.EventImportResultaat;
+import domain.EventImportRij;
+import domain.EventTijdslot;
+import domain.Lokaal;
+import exception.OngeldigeImportException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import repository.EventBulkRepository;
+import validation.EventRegels;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulkimport van events, blok per blok.
+ *
+ * Per blok: eerst elke rij apart en parallel (omzetting, bean validation, {@link EventRegels}, lokaalconflict met
+ * bestaande events), dan één query voor dubbele namen per dag in de databank, dan sequentieel de conflicten binnen
+ * de import zelf (eerste rij wint), en tot slot één transactie met JDBC-batches. Een geweigerde rij houdt de rest
+ * niet tegen; een gecommit blok blijft staan, ook als een later blok faalt.
+ */
+@Service
+@Timed(value = "service", histogram = true)
+public class EventImportServiceImpl implements EventImportService {
+
+    private final EventBulkRepository eventBulkRepository;
+    private final LokaalService lokaalService;
+    private final LokaalBezetting lokaalBezetting;
+    private final SpringValidatorAdapter validator;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher publisher;
+    private final Clock klok;
+    private final int blokGrootte;
+
+    public EventImportServiceImpl(EventBulkRepository eventBulkRepository, LokaalService lokaalService,
+                                  LokaalBezetting lokaalBezetting, jakarta.validation.Validator validator,
+                                  MessageSource messageSource, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager, ApplicationEventPublisher publisher,
+                                  Clock klok, @Value("${import.blok-grootte:1000}") int blokGrootte) {
+        this.eventBulkRepository = eventBulkRepository;
+        this.lokaalService = lokaalService;
+        this.lokaalBezetting = lokaalBezetting;
+        this.validator = new SpringValidatorAdapter(validator);
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publisher = publisher;
+        this.klok = klok;
+        this.blokGrootte = blokGrootte;
+    }
+
+    @Override
+    public EventImportRapport importeerCsv(Reader csv, Locale locale) {
+        return importeer(EventImportLezer.csv(csv), locale);
+    }
+
+    @Override
+    public EventImportRapport importeerJson(InputStream json, Locale locale) {
+        return importeer(EventImportLezer.json(json, objectMapper), locale);
+    }
+
+    private EventImportRapport importeer(Iterator<JsonNode> bron, Locale locale) {
+        long start = System.nanoTime();
+        Import lopend = new Import(locale, LocalDateTime.now(klok));
+
+        List<Kandidaat> blok = new ArrayList<>(blokGrootte);
+        int rij = 0;
+        while (true) {
+            JsonNode record;
+            try {
+                if (!bron.hasNext()) {
+                    break;
+                }
+                record = bron.next();
+            } catch (OngeldigeImportException e) {
+                // Vanaf hier is de invoer onleesbaar; wat al gecommit is, blijft.
+                verwerk(blok, lopend);
+                lopend.resultaten.add(new EventImportResultaat(rij + 1, null, List.of(e.getMessage())));
+                blok.clear();
+                break;
+            }
+            blok.add(new Kandidaat(++rij, record));
+            if (blok.size() == blokGrootte) {
+                verwerk(blok, lopend);
+                blok.clear();
+            }
+        }
+        verwerk(blok, lopend);
+
+        int geimporteerd = (int) lopend.resultaten.stream().filter(EventImportResultaat::isGeimporteerd).count();
+        return new EventImportRapport(lopend.resultaten.size(), geimporteerd, lopend.resultaten.size() - geimporteerd,
+                (System.nanoTime() - start) / 1_000_000, lopend.resultaten);
+    }
+
+    private void verwerk(List<Kandidaat> blok, Import lopend) {
+        if (blok.isEmpty()) {
+            return;
+        }
+        blok.parallelStream().forEach(kandidaat -> valideerRij(kandidaat, lopend));
+        controleerBinnenImport(blok, lopend);
+
+        List<Kandidaat> geldig = blok.stream().filter(Kandidaat::isGeldig).toList();
+        if (!geldig.isEmpty()) {
+            schrijf(geldig);
+        }
+
+        for (Kandidaat kandidaat : blok) {
+            lopend.resultaten.add(new EventImportResultaat(kandidaat.rij,
+                    kandidaat.isGeldig() ? kandidaat.event.getId() : null, List.copyOf(kandidaat.fouten)));
+        }
+    }
+
+    private void schrijf(List<Kandidaat> geldig) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Event> events = geldig.stream().map(k -> k.event).toList();
+                eventBulkRepository.voegToe(events);
+                publisher.publishEvent(new EventsGeimporteerd(events));
+            });
+        } catch (DataAccessException e) {
+            for (Kandidaat kandidaat : geldig) {
+                kandidaat.event.setId(null);
+                kandidaat.fouten.add("Opslaan mislukt: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    // Draait parallel: raakt enkel de eigen kandidaat en gedeelde structuren die veilig gelezen kunnen worden.
+    private void valideerRij(Kandidaat kandidaat, Import lopend) {
+        EventImportRij rij;
+        try {
+            rij = objectMapper.treeToValue(kandidaat.record, EventImportRij.class);
+        } catch (JsonProcessingException e) {
+            String veld = e instanceof JsonMappingException m && !m.getPath().isEmpty()
+                    ? m.getPath().get(m.getPath().size() - 1).getFieldName()
+                    : null;
+            kandidaat.fouten.add(veld != null ? veld + ": ongeldige waarde" : "Ongeldig record");
+            return;
+        }
+
+        Lokaal lokaal = rij.lokaal() != null ? lopend.lokalen.get(rij.lokaal().trim().toUpperCase(Locale.ROOT)) : null;
+        Event event = rij.naarEvent(lokaal);
+        Errors errors = new BeanPropertyBindingResult(event, "event");
+        validator.validate(event, errors);
+        EventRegels.valideer(event, lopend.nu, errors);
+        if (lokaal == null) {
+            errors.rejectValue("lokaal", "event.lokaal.onbekend", "Onbekend lokaal: " + rij.lokaal());
+        }
+        if (!errors.hasErrors() && lokaalBezetting
+                .zoekConflict(lokaal.getId(), event.getDatumTijd(), event.getEindTijd(), null).isPresent()) {
+            errors.rejectValue("datumTijd", "event.datumtijdenlokaal.conflict",
+                    "Er is al een event gepland op dit tijdstip in dit lokaal.");
+        }
+
+        errors.getFieldErrors().forEach(fout ->
+                kandidaat.fouten.add(fout.getField() + ": " + messageSource.getMessage(fout, lopend.locale)));
+        kandidaat.event = event;
+    }
+
+    // Sequentieel, in invoervolgorde: bij twee botsende rijen wint de eerste.
+    private void controleerBinnenImport(List<Kandidaat> blok, Import lopend) {
+        Set<String> namen = new HashSet<>();
+        for (Kandidaat kandidaat : blok) {
+            if (kandidaat.isGeldig()) {
+                namen.add(Event.normaliseer(kandidaat.event.getNaam()));
+            }
+        }
+        Set<String> inDatabank = eventBulkRepository.findNaamDagen(namen);
+
+        for (Kandidaat kandidaat : blok) {
+            if (!kandidaat.isGeldig()) {
+                continue;
+            }
+            Event event = kandidaat.event;
+            String naamDag = EventBulkRepository.naamDag(Event.normaliseer(event.getNaam()), event.getDatum());
+            if (inDatabank.contains(naamDag) || lopend.naamDagen.contains(naamDag)) {
+                kandidaat.fouten.add("naam: " + messageSource.getMessage("event.naam.dag.conflict", null,
+                        "Er bestaat al een event met deze naam op dezelfde dag.", lopend.locale));
+                continue;
+            }
+            if (lopend.sloten.zoekConflict(event.getLokaal().getId(), event.getDatumTijd(), event.getEindTijd(), null)
+                    .isPresent()) {
+                kandidaat.fouten.add("datumTijd: " + messageSource.getMessage("event.datumtijdenlokaal.conflict", null,
+                        "Er is al een event gepland op dit tijdstip in dit lokaal.", lopend.locale));
+                continue;
+            }
+            lopend.naamDagen.add(naamDag);
+            // Voorlopig negatief id: uniek binnen de import, botst nooit met een echt event.
+            lopend.sloten.voegToe(new EventTijdslot((long) -kandidaat.rij, event.getLokaal().getId(),
+                    event.getDatumTijd(), event.getEindTijd()));
+        }
+    }
+
+    /**
+     * Toestand van één import over de blokken heen.
+     */
+    private final class Import {
+        final Locale locale;
+        final LocalDateTime nu;
+        final Map<String, Lokaal> lokalen = new HashMap<>();
+        // Wat deze import al aanvaard heeft; gecommitte blokken zitten daarna ook in de gedeelde LokaalBezetting.
+        final Set<String> naamDagen = new HashSet<>();
+        final TijdslotIndex sloten = new TijdslotIndex();
+        final List<EventImportResultaat> resultaten = new ArrayList<>();
+
+        Import(Locale locale, LocalDateTime nu) {
+            this.locale = locale;
+            this.nu = nu;
+            for (Lokaal lokaal : lokaalService.findAll()) {
+                lokalen.put(lokaal.getNaam().toUpperCase(Locale.ROOT), lokaal);
+            }
+        }
+    }
+
+    private static final class Kandidaat {
+        final int rij;
+        final JsonNode record;
+        final List<String> fouten = new ArrayList<>();
+        Event event;
+
+        Kandidaat(int rij, JsonNode record) {
+            this.rij = rij;
+            this.record = record;
+        }
+
+        boolean isGeldig() {
+            return event != null && fouten.isEmpty();
+        }
+    }
+}
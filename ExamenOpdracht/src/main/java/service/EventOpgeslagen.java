@@ -0,0 +1,9 @@
+package service;
+
+import domain.Event;
+
+/**
+ * Gepubliceerd door {@link EventService#save(Event)}; in-memory indexen luisteren hierop na de commit.
+ */
+public record EventOpgeslagen(Event event) {
+}
@@ -1,18 +1,30 @@
 package service;
 
 import domain.Event;
-import domain.Lokaal;
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventTijdslot;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import domain.SprekerProgramma;
 
 import java.util.List;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 public interface EventService {
-    List<Event> findAllSortedByDatumTijd();
+    EventPagina findPagina(LocalDateTime van, LocalDateTime tot, EventCursor na, int grootte);
     Event findById(Long id);
+    EventWeergave findWeergaveById(Long id);
     Event save(Event event);
     void deleteById(Long id);
-    List<Event> getEventsOpDatum(LocalDate datum);
-    Event findByDatumTijdAndLokaal(LocalDateTime datumTijd, Lokaal lokaal);
+    List<EventWeergave> getEventsOpDatum(LocalDate datum);
+    void streamEventsOpDatum(LocalDate datum, Consumer<EventWeergave> verwerker);
+    void streamEvents(Consumer<EventWeergave> verwerker);
+    void streamFavorieten(Long userId, Consumer<EventWeergave> verwerker);
+    EventTijdslot zoekLokaalConflict(Event event);
     List<Event> findByNaamAndDatum(String naam, LocalDate datum);
+    EventZoekResultaat zoek(String zoekterm, LocalDateTime van, LocalDateTime tot, int grootte);
+    SprekerProgramma findBySpreker(String naam);
 }
@@ -1,27 +1,79 @@
 package service;
 
 import domain.Event;
-import domain.Lokaal;
+import domain.EventCursor;
+import domain.EventPagina;
+import domain.EventRij;
+import domain.EventTijdslot;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import domain.SprekerProgramma;
 import repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "service", histogram = true)
 @Transactional
 public class EventServiceImpl implements EventService {
 
+    // Grenzen van het DATETIME-type in MySQL, gebruikt wanneer van/tot ontbreken.
+    private static final LocalDateTime BEGIN_TIJD = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime EINDE_TIJD = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final EventRepository eventRepository;
+    private final LokaalBezetting lokaalBezetting;
+    private final EventZoekIndex zoekIndex;
+    private final SprekerIndex sprekerIndex;
+    private final ApplicationEventPublisher publisher;
 
-    public EventServiceImpl(EventRepository eventRepository) {
+    public EventServiceImpl(EventRepository eventRepository, LokaalBezetting lokaalBezetting,
+                            EventZoekIndex zoekIndex, SprekerIndex sprekerIndex,
+                            ApplicationEventPublisher publisher) {
         this.eventRepository = eventRepository;
+        this.lokaalBezetting = lokaalBezetting;
+        this.zoekIndex = zoekIndex;
+        this.sprekerIndex = sprekerIndex;
+        this.publisher = publisher;
     }
 
     @Override
-    public List<Event> findAllSortedByDatumTijd() {
-        return eventRepository.findAllByOrderByDatumTijdAsc();
+    @Transactional(readOnly = true)
+    public EventPagina findPagina(LocalDateTime van, LocalDateTime tot, EventCursor na, int grootte) {
+        int limiet = EventPagina.grootte(grootte);
+        LocalDateTime begin = van != null ? van : BEGIN_TIJD;
+        LocalDateTime einde = tot != null ? tot : EINDE_TIJD;
+
+        // Zonder cursor starten we net vóór 'begin': elk id is groter dan 0.
+        EventCursor positie = na != null && !na.datumTijd().isBefore(begin)
+                ? na
+                : new EventCursor(begin, 0L);
+
+        // Eén rij extra ophalen om te weten of er nog een volgende pagina is.
+        List<Event> rijen = eventRepository.findVolgendePagina(
+                positie.datumTijd(), positie.id(), einde, Limit.of(limiet + 1));
+
+        List<Event> pagina = rijen.size() > limiet ? rijen.subList(0, limiet) : rijen;
+        if (!pagina.isEmpty()) {
+            eventRepository.laadSprekers(pagina);
+        }
+        String volgende = rijen.size() > limiet ? EventCursor.van(pagina.get(limiet - 1)).encode() : null;
+        return new EventPagina(pagina.stream().map(EventWeergave::van).toList(), volgende);
     }
 
     @Override
@@ -29,32 +81,124 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findById(id).orElse(null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EventWeergave findWeergaveById(Long id) {
+        return eventRepository.findWeergaveById(id).map(EventWeergave::van).orElse(null);
+    }
+
     @Override
     public Event save(Event event) {
-        return eventRepository.save(event);
+        Event opgeslagen = eventRepository.save(event);
+        publisher.publishEvent(new EventOpgeslagen(opgeslagen));
+        return opgeslagen;
     }
 
     @Override
     public void deleteById(Long id) {
         eventRepository.deleteById(id);
+        publisher.publishEvent(new EventVerwijderd(id));
     }
     
     @Override
-    public List<Event> getEventsOpDatum(LocalDate datum) {
-        return eventRepository.findByDatum(datum);
+    @Transactional(readOnly = true)
+    public List<EventWeergave> getEventsOpDatum(LocalDate datum) {
+        return eventRepository.findByDatumTijdVanafTot(datum.atStartOfDay(), datum.plusDays(1).atStartOfDay())
+                .stream().map(EventWeergave::van).toList();
     }
     
     @Override
-    public Event findByDatumTijdAndLokaal(LocalDateTime datumTijd, Lokaal lokaal) {
-        return eventRepository.findByDatumTijdAndLokaal(datumTijd, lokaal).orElse(null);
+    @Transactional(readOnly = true)
+    public void streamEventsOpDatum(LocalDate datum, Consumer<EventWeergave> verwerker) {
+        try (Stream<EventRij> rijen = eventRepository.streamByDatumTijdVanafTot(
+                datum.atStartOfDay(), datum.plusDays(1).atStartOfDay())) {
+            groepeer(rijen, verwerker);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamEvents(Consumer<EventWeergave> verwerker) {
+        try (Stream<EventRij> rijen = eventRepository.streamByDatumTijdVanafTot(BEGIN_TIJD, EINDE_TIJD)) {
+            groepeer(rijen, verwerker);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamFavorieten(Long userId, Consumer<EventWeergave> verwerker) {
+        try (Stream<EventRij> rijen = eventRepository.streamFavorieten(userId)) {
+            groepeer(rijen, verwerker);
+        }
     }
+
+    // De rijen komen gesorteerd per event binnen, één per spreker: groepeer opeenvolgende rijen.
+    private static void groepeer(Stream<EventRij> rijen, Consumer<EventWeergave> verwerker) {
+        EventRij huidig = null;
+        List<String> sprekers = new ArrayList<>(3);
+        for (Iterator<EventRij> it = rijen.iterator(); it.hasNext(); ) {
+            EventRij rij = it.next();
+            if (huidig != null && !huidig.id().equals(rij.id())) {
+                verwerker.accept(EventWeergave.van(huidig, sprekers));
+                sprekers.clear();
+            }
+            huidig = rij;
+            if (rij.spreker() != null) {
+                sprekers.add(rij.spreker());
+            }
+        }
+        if (huidig != null) {
+            verwerker.accept(EventWeergave.van(huidig, sprekers));
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventTijdslot zoekLokaalConflict(Event event) {
+        if (event.getDatumTijd() == null || event.getLokaal() == null || event.getLokaal().getId() == null) {
+            return null;
+        }
+        return lokaalBezetting.zoekConflict(event.getLokaal().getId(), event.getDatumTijd(), event.getEindTijd(), event.getId())
+                .orElse(null);
+    }
+
     @Override
     public List<Event> findByNaamAndDatum(String naam, LocalDate datum) {
-        return eventRepository.findByNaamIgnoreCaseAndDatumTijdBetween(
-            naam,
+        return eventRepository.findByGenormaliseerdeNaamEnDatumTijd(
+            Event.normaliseer(naam),
             datum.atStartOfDay(),
             datum.plusDays(1).atStartOfDay()
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EventZoekResultaat zoek(String zoekterm, LocalDateTime van, LocalDateTime tot, int grootte) {
+        int limiet = EventPagina.grootte(grootte);
+        EventZoekIndex.Treffers treffers = zoekIndex.zoek(zoekterm, van, tot, limiet);
+        return new EventZoekResultaat(zoekterm, treffers.totaal(), treffers.begrensd(),
+                weergavenInVolgorde(treffers.ids()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SprekerProgramma findBySpreker(String naam) {
+        return sprekerIndex.zoek(naam)
+                .map(sessies -> new SprekerProgramma(sessies.spreker(), weergavenInVolgorde(sessies.eventIds())))
+                .orElse(null);
+    }
+
+    // Een index bepaalt de volgorde; een event dat intussen verwijderd is, valt weg.
+    private List<EventWeergave> weergavenInVolgorde(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Event> events = eventRepository.findWeergavenByIds(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return ids.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(EventWeergave::van)
+                .toList();
+    }
 }
@@ -0,0 +1,7 @@
+package service;
+
+/**
+ * Gepubliceerd door {@link EventService#deleteById(Long)}; in-memory indexen luisteren hierop na de commit.
+ */
+public record EventVerwijderd(Long eventId) {
+}
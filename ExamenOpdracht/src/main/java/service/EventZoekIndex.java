@@ -0,0 +1,341 @@
+package service;
+
+import domain.Event;
+import domain.EventZoekRij;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import repository.EventRepository;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory omgekeerde index over naam, beschrijving en sprekers van alle events, zodat zoeken geen
+ * {@code LIKE '%x%'}-scan over de events-tabel kost.
+ *
+ * Elke term (kleine letters, zonder accenten) wijst naar een gesorteerde array van {@link ProgrammaSleutels}: elke
+ * array staat zo in programmavolgorde, een periode is een bereik sleutels, en de eerste treffers zijn de eerste
+ * gemeenschappelijke sleutels. De termen staan zelf gesorteerd, zodat
+ * een zoekwoord als prefix een aaneengesloten stuk termen is. Schrijvers wachten op elkaar en vervangen arrays in hun
+ * geheel, lezers nemen geen lock.
+ */
+@Component
+public class EventZoekIndex {
+
+    private static final Pattern SCHEIDING = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern ACCENTEN = Pattern.compile("\\p{M}+");
+
+    // Verder tellen kost enkel tijd: een prefix van één letter raakt bijna elk event.
+    static final int MAX_TELLING = 10_000;
+
+    private final EventRepository eventRepository;
+
+    private final ConcurrentSkipListMap<String, long[]> postings = new ConcurrentSkipListMap<>();
+    // Per event zijn sleutel en termen, om het bij een wijziging of verwijdering uit de arrays te halen. De termen
+    // zijn dezelfde String-objecten als de sleutels van postings.
+    private final Map<Long, Document> documenten = new ConcurrentHashMap<>();
+
+    private record Document(long sleutel, String[] termen) {
+    }
+
+    /**
+     * Ids van de eerste treffers in programmavolgorde, en het aantal treffers in totaal; bij {@code begrensd} zijn
+     * het er meer dan {@link #MAX_TELLING} en is het totaal die grens.
+     */
+    public record Treffers(List<Long> ids, int totaal, boolean begrensd) {
+
+        static final Treffers GEEN = new Treffers(List.of(), 0, false);
+    }
+
+    public EventZoekIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void laad() {
+        postings.clear();
+        documenten.clear();
+        Opbouw opbouw = new Opbouw();
+        EventZoekRij huidig = null;
+        List<String> sprekers = new ArrayList<>(3);
+        try (Stream<EventZoekRij> rijen = eventRepository.streamZoekRijen()) {
+            for (Iterator<EventZoekRij> it = rijen.iterator(); it.hasNext(); ) {
+                EventZoekRij rij = it.next();
+                if (huidig != null && !huidig.id().equals(rij.id())) {
+                    opbouw.voeg(huidig.id(), huidig.datumTijd(), huidig.naam(), huidig.beschrijving(), sprekers);
+                    sprekers.clear();
+                }
+                huidig = rij;
+                if (rij.spreker() != null) {
+                    sprekers.add(rij.spreker());
+                }
+            }
+        }
+        if (huidig != null) {
+            opbouw.voeg(huidig.id(), huidig.datumTijd(), huidig.naam(), huidig.beschrijving(), sprekers);
+        }
+        opbouw.schrijf();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventOpgeslagen(EventOpgeslagen opgeslagen) {
+        registreer(List.of(opgeslagen.event()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventsGeimporteerd(EventsGeimporteerd geimporteerd) {
+        registreer(geimporteerd.events());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventVerwijderd(EventVerwijderd verwijderd) {
+        verwijder(verwijderd.eventId());
+    }
+
+    public synchronized void registreer(Collection<Event> events) {
+        Opbouw opbouw = new Opbouw();
+        for (Event event : events) {
+            verwijder(event.getId());
+            opbouw.voeg(event.getId(), event.getDatumTijd(), event.getNaam(), event.getBeschrijving(),
+                    event.getSprekers() != null ? event.getSprekers() : List.of());
+        }
+        opbouw.schrijf();
+    }
+
+    public synchronized void verwijder(Long eventId) {
+        Document oud = documenten.remove(eventId);
+        if (oud == null) {
+            return;
+        }
+        for (String term : oud.termen()) {
+            postings.computeIfPresent(term, (t, sleutels) -> ProgrammaSleutels.zonder(sleutels, oud.sleutel()));
+        }
+    }
+
+    /**
+     * Zoekt events waarvan naam, beschrijving of sprekers voor elk woord van de zoekterm een term met dat prefix
+     * bevatten, met een start in [van, tot) als die gegeven zijn.
+     */
+    public Treffers zoek(String zoekterm, LocalDateTime van, LocalDateTime tot, int limiet) {
+        Set<String> woorden = new LinkedHashSet<>();
+        voegTermenToe(zoekterm, woorden);
+        List<Cursor> cursors = new ArrayList<>(woorden.size());
+        for (String woord : woorden) {
+            Collection<long[]> lijsten = postings.subMap(woord, woord + Character.MAX_VALUE).values();
+            if (lijsten.isEmpty()) {
+                return Treffers.GEEN;
+            }
+            cursors.add(new Cursor(lijsten.toArray(long[][]::new)));
+        }
+        if (cursors.isEmpty()) {
+            return Treffers.GEEN;
+        }
+        // Het woord met de minste sleutels bepaalt de sprongen.
+        cursors.sort(Comparator.comparingLong(Cursor::omvang));
+
+        long doel = van != null ? ProgrammaSleutels.sleutel(van, 0) : 0;
+        long einde = tot != null ? ProgrammaSleutels.sleutel(tot, 0) : Long.MAX_VALUE;
+        List<Long> ids = new ArrayList<>(Math.min(limiet, 64));
+        int totaal = 0;
+        boolean begrensd = false;
+        Cursor eerste = cursors.get(0);
+        while (true) {
+            eerste.naar(doel);
+            long kandidaat = eerste.huidige();
+            if (kandidaat >= einde) {
+                break;
+            }
+            long volgende = kandidaat + 1;
+            boolean overal = true;
+            for (int i = 1; i < cursors.size() && overal; i++) {
+                Cursor cursor = cursors.get(i);
+                cursor.naar(kandidaat);
+                if (cursor.huidige() != kandidaat) {
+                    volgende = cursor.huidige();
+                    overal = false;
+                }
+            }
+            if (overal) {
+                if (totaal == MAX_TELLING) {
+                    begrensd = true;
+                    break;
+                }
+                totaal++;
+                if (ids.size() < limiet) {
+                    ids.add(ProgrammaSleutels.eventId(kandidaat));
+                }
+            }
+            if (volgende == Long.MAX_VALUE) {
+                break;
+            }
+            doel = volgende;
+        }
+        return new Treffers(ids, totaal, begrensd);
+    }
+
+    /**
+     * Termen van een tekst: kleine letters, zonder accenten, gesplitst op alles wat geen letter of cijfer is.
+     */
+    static void voegTermenToe(String tekst, Set<String> termen) {
+        if (tekst == null || tekst.isBlank()) {
+            return;
+        }
+        String zonderAccenten = ACCENTEN.matcher(Normalizer.normalize(tekst, Normalizer.Form.NFD)).replaceAll("");
+        for (String term : SCHEIDING.split(zonderAccenten.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                termen.add(term);
+            }
+        }
+    }
+
+    /**
+     * Loopt in volgorde over de vereniging van de arrays van alle termen met één prefix, zonder ze samen te voegen.
+     * De arrays staan in een min-heap op hun huidige sleutel; {@link #naar} springt per array met galopperend zoeken,
+     * zodat een selectief woord de andere woorden grote stukken laat overslaan.
+     */
+    private static final class Cursor {
+
+        private final long[][] lijsten;
+        private final int[] posities;
+        private final int[] heap;
+        private int grootte;
+
+        Cursor(long[][] lijsten) {
+            this.lijsten = lijsten;
+            this.posities = new int[lijsten.length];
+            this.heap = new int[lijsten.length];
+            for (int i = 0; i < lijsten.length; i++) {
+                heap[grootte++] = i;
+            }
+            for (int i = grootte / 2 - 1; i >= 0; i--) {
+                zakt(i);
+            }
+        }
+
+        long omvang() {
+            long omvang = 0;
+            for (long[] lijst : lijsten) {
+                omvang += lijst.length;
+            }
+            return omvang;
+        }
+
+        long huidige() {
+            return grootte == 0 ? Long.MAX_VALUE : waarde(heap[0]);
+        }
+
+        // Naar de kleinste sleutel >= doel.
+        void naar(long doel) {
+            while (grootte > 0 && waarde(heap[0]) < doel) {
+                int lijst = heap[0];
+                posities[lijst] = galop(lijsten[lijst], posities[lijst], doel);
+                if (posities[lijst] == lijsten[lijst].length) {
+                    heap[0] = heap[--grootte];
+                }
+                zakt(0);
+            }
+        }
+
+        private long waarde(int lijst) {
+            return lijsten[lijst][posities[lijst]];
+        }
+
+        private void zakt(int i) {
+            while (true) {
+                int kleinste = i;
+                int links = 2 * i + 1;
+                int rechts = links + 1;
+                if (links < grootte && waarde(heap[links]) < waarde(heap[kleinste])) {
+                    kleinste = links;
+                }
+                if (rechts < grootte && waarde(heap[rechts]) < waarde(heap[kleinste])) {
+                    kleinste = rechts;
+                }
+                if (kleinste == i) {
+                    return;
+                }
+                int tijdelijk = heap[i];
+                heap[i] = heap[kleinste];
+                heap[kleinste] = tijdelijk;
+                i = kleinste;
+            }
+        }
+
+        // Eerste positie vanaf 'van' met een sleutel >= doel: stappen van 1, 2, 4... en dan binair zoeken.
+        private static int galop(long[] lijst, int van, long doel) {
+            int stap = 1;
+            int hoog = van;
+            while (hoog < lijst.length && lijst[hoog] < doel) {
+                van = hoog + 1;
+                hoog += stap;
+                stap <<= 1;
+            }
+            int i = Arrays.binarySearch(lijst, van, Math.min(hoog, lijst.length), doel);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+
+    /**
+     * Verzamelt de sleutels per term voor een hele reeks events, zodat elke array maar één keer vervangen wordt: bij
+     * het laden en bij een importblok zou dat anders per event een kopie van de grote arrays kosten.
+     */
+    private final class Opbouw {
+
+        private final Map<String, SleutelLijst> perTerm = new HashMap<>();
+
+        void voeg(Long id, LocalDateTime datumTijd, String naam, String beschrijving, List<String> sprekers) {
+            Set<String> termen = new LinkedHashSet<>();
+            voegTermenToe(naam, termen);
+            voegTermenToe(beschrijving, termen);
+            for (String spreker : sprekers) {
+                voegTermenToe(spreker, termen);
+            }
+            long sleutel = ProgrammaSleutels.sleutel(datumTijd, id);
+            String[] gedeeld = new String[termen.size()];
+            int i = 0;
+            for (String term : termen) {
+                SleutelLijst lijst = perTerm.computeIfAbsent(term, SleutelLijst::new);
+                lijst.sleutels.voeg(sleutel);
+                gedeeld[i++] = lijst.term;
+            }
+            documenten.put(id, new Document(sleutel, gedeeld));
+        }
+
+        void schrijf() {
+            for (SleutelLijst lijst : perTerm.values()) {
+                postings.merge(lijst.term, lijst.sleutels.gesorteerd(), ProgrammaSleutels::voegSamen);
+            }
+        }
+
+        private final class SleutelLijst {
+
+            private final String term;
+            private final ProgrammaSleutels.Lijst sleutels = new ProgrammaSleutels.Lijst();
+
+            SleutelLijst(String term) {
+                // Een bestaande sleutel hergebruiken, zodat elke term maar één keer in het geheugen staat.
+                String bestaand = postings.ceilingKey(term);
+                this.term = term.equals(bestaand) ? bestaand : term;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package service;
+
+import domain.Event;
+import domain.EventTijdslot;
+
+import java.util.List;
+
+/**
+ * Gepubliceerd door de bulkimport, één keer per gecommit blok; de nieuwe events, met hun id.
+ */
+public record EventsGeimporteerd(List<Event> events) {
+
+    public List<EventTijdslot> sloten() {
+        return events.stream().map(EventTijdslot::van).toList();
+    }
+}
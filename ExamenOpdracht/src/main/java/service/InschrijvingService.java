@@ -0,0 +1,11 @@
+package service;
+
+import domain.EventPlaatsen;
+import domain.InschrijvingResultaat;
+import domain.User;
+
+public interface InschrijvingService {
+    InschrijvingResultaat schrijfIn(User user, Long eventId);
+    EventPlaatsen getPlaatsen(Long eventId);
+    boolean isIngeschreven(User user, Long eventId);
+}
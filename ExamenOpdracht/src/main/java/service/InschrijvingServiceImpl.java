@@ -0,0 +1,84 @@
+package service;
+
+import domain.EventPlaatsen;
+import domain.InschrijvingResultaat;
+import domain.User;
+import exception.EventNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventRepository;
+import repository.UserRepository;
+
+/**
+ * Inschrijvingen met een harde grens op de capaciteit van het lokaal.
+ *
+ * Eerst een claim op de teller in het geheugen ({@link PlaatsTellers}); wie geen plaats krijgt, komt niet aan een
+ * transactie of rijvergrendeling. Met een claim volgt één korte transactie: de voorwaardelijke UPDATE neemt de
+ * plaats en vergrendelt de eventrij, daarna de inschrijving zelf. Alles wat niet commit, geeft de claim terug.
+ */
+@Service
+@Timed(value = "service", histogram = true)
+public class InschrijvingServiceImpl implements InschrijvingService {
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final PlaatsTellers plaatsTellers;
+    private final TransactionTemplate transactionTemplate;
+
+    public InschrijvingServiceImpl(EventRepository eventRepository, UserRepository userRepository,
+                                   PlaatsTellers plaatsTellers, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.plaatsTellers = plaatsTellers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public InschrijvingResultaat schrijfIn(User user, Long eventId) {
+        PlaatsTellers.Teller teller = plaatsTellers.teller(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        if (!teller.claim()) {
+            return volzetOfAlIngeschreven(user, eventId);
+        }
+
+        InschrijvingResultaat resultaat;
+        try {
+            resultaat = transactionTemplate.execute(status -> {
+                if (eventRepository.boekPlaats(eventId) == 0) {
+                    teller.markeerVolzet();
+                    return InschrijvingResultaat.VOLZET;
+                }
+                // Een tweede klik van dezelfde gebruiker: de plaats die hierboven genomen is, gaat terug.
+                if (userRepository.voegInschrijvingToe(user.getId(), eventId) == 0) {
+                    status.setRollbackOnly();
+                    return InschrijvingResultaat.AL_INGESCHREVEN;
+                }
+                return InschrijvingResultaat.INGESCHREVEN;
+            });
+        } catch (RuntimeException e) {
+            teller.geefVrij();
+            throw e;
+        }
+        if (resultaat != InschrijvingResultaat.INGESCHREVEN) {
+            teller.geefVrij();
+        }
+        return resultaat == InschrijvingResultaat.VOLZET ? volzetOfAlIngeschreven(user, eventId) : resultaat;
+    }
+
+    @Override
+    public EventPlaatsen getPlaatsen(Long eventId) {
+        return plaatsTellers.teller(eventId).map(PlaatsTellers.Teller::plaatsen).orElse(null);
+    }
+
+    @Override
+    public boolean isIngeschreven(User user, Long eventId) {
+        return userRepository.telInschrijving(user.getId(), eventId) > 0;
+    }
+
+    // Wie al een plaats heeft, hoort dat eerder dan dat het event volzet is.
+    private InschrijvingResultaat volzetOfAlIngeschreven(User user, Long eventId) {
+        return isIngeschreven(user, eventId) ? InschrijvingResultaat.AL_INGESCHREVEN : InschrijvingResultaat.VOLZET;
+    }
+}
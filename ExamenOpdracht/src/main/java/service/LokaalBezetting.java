@@ -0,0 +1,188 @@
+package service;
+
+import domain.EventTijdslot;
+import domain.Lokaal;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory bezetting per lokaal, zodat conflictcontrole geen databankronde meer kost.
+ *
+ * Per lokaal staan de tijdsloten gesorteerd in een {@link TijdslotIndex}, die de overlapcontrole doet.
+ *
+ * Voor vrije lokalen houdt de bezetting daarnaast per kwartier een bitmap bij met een bit per lokaal: gezet zodra
+ * een event van dat lokaal het kwartier raakt. Schrijvers zijn gesynchroniseerd; lezers zien elke bit via
+ * {@link AtomicLongArray} zonder slot.
+ */
+@Component
+public class LokaalBezetting {
+
+    private static final long KWARTIER_SECONDEN = 15 * 60;
+
+    private final EventRepository eventRepository;
+
+    private final TijdslotIndex sloten = new TijdslotIndex();
+    private final Map<Long, Integer> bitPerLokaal = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, AtomicLongArray> bezetPerKwartier = new ConcurrentSkipListMap<>();
+
+    public LokaalBezetting(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void laad() {
+        sloten.wis();
+        bitPerLokaal.clear();
+        bezetPerKwartier.clear();
+        try (Stream<EventTijdslot> rijen = eventRepository.streamTijdsloten()) {
+            rijen.forEach(this::registreer);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventOpgeslagen(EventOpgeslagen opgeslagen) {
+        registreer(EventTijdslot.van(opgeslagen.event()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventsGeimporteerd(EventsGeimporteerd geimporteerd) {
+        geimporteerd.sloten().forEach(this::registreer);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventVerwijderd(EventVerwijderd verwijderd) {
+        verwijder(verwijderd.eventId());
+    }
+
+    public synchronized void registreer(EventTijdslot slot) {
+        verwijder(slot.eventId());
+        sloten.voegToe(slot);
+
+        int bit = bitPerLokaal.computeIfAbsent(slot.lokaalId(), id -> bitPerLokaal.size());
+        for (long kwartier = kwartier(slot.start()); kwartier <= laatsteKwartier(slot); kwartier++) {
+            zetBit(kwartier, bit);
+        }
+    }
+
+    public synchronized void verwijder(Long eventId) {
+        EventTijdslot oud = sloten.verwijder(eventId);
+        if (oud != null) {
+            wisBits(oud);
+        }
+    }
+
+    private void zetBit(long kwartier, int bit) {
+        AtomicLongArray bits = bezetPerKwartier.get(kwartier);
+        if (bits == null || bits.length() <= bit >>> 6) {
+            // Meer lokalen dan bij het aanmaken: een grotere kopie, zodat lezers nooit een half gevulde array zien.
+            AtomicLongArray groter = new AtomicLongArray(woorden(bitPerLokaal.size()));
+            for (int w = 0; bits != null && w < bits.length(); w++) {
+                groter.set(w, bits.get(w));
+            }
+            bezetPerKwartier.put(kwartier, groter);
+            bits = groter;
+        }
+        bits.getAndAccumulate(bit >>> 6, 1L << bit, (woord, masker) -> woord | masker);
+    }
+
+    // Een kwartier blijft bezet zolang een ander event van hetzelfde lokaal het nog raakt.
+    private void wisBits(EventTijdslot oud) {
+        int bit = bitPerLokaal.get(oud.lokaalId());
+        for (long kwartier = kwartier(oud.start()); kwartier <= laatsteKwartier(oud); kwartier++) {
+            AtomicLongArray bits = bezetPerKwartier.get(kwartier);
+            if (bits != null && zoekConflict(oud.lokaalId(), begin(kwartier), begin(kwartier + 1), null).isEmpty()) {
+                bits.getAndAccumulate(bit >>> 6, ~(1L << bit), (woord, masker) -> woord & masker);
+            }
+        }
+    }
+
+    /**
+     * Zoekt een ander event dat het lokaal bezet tijdens [start, eind).
+     *
+     * @param negeerEventId het event dat bewerkt wordt, of null bij een nieuw event
+     */
+    public Optional<EventTijdslot> zoekConflict(Long lokaalId, LocalDateTime start, LocalDateTime eind, Long negeerEventId) {
+        return sloten.zoekConflict(lokaalId, start, eind, negeerEventId);
+    }
+
+    /**
+     * De lokalen uit {@code lokalen} die tijdens [start, eind) door geen enkel event bezet zijn, in dezelfde volgorde.
+     *
+     * De bitmaps van de kwartieren die helemaal binnen de periode vallen, wijzen bezette lokalen meteen aan. Een
+     * bit in een kwartier aan de rand zegt enkel dat het lokaal dat kwartier ergens raakt; die lokalen gaan nog langs
+     * {@link #zoekConflict}. Een lokaal zonder bit heeft nooit een event gehad en is vrij.
+     */
+    public List<Lokaal> vrijeLokalen(List<Lokaal> lokalen, LocalDateTime start, LocalDateTime eind) {
+        int woorden = woorden(bitPerLokaal.size());
+        long[] bezet = new long[woorden];
+        long[] rand = new long[woorden];
+        long eersteVolledig = begin(kwartier(start)).equals(start) ? kwartier(start) : kwartier(start) + 1;
+        long laatsteVolledig = kwartier(eind) - 1;
+        for (Map.Entry<Long, AtomicLongArray> ingang
+                : bezetPerKwartier.subMap(kwartier(start), true, kwartier(eind.minusNanos(1)), true).entrySet()) {
+            long kwartier = ingang.getKey();
+            long[] doel = kwartier >= eersteVolledig && kwartier <= laatsteVolledig ? bezet : rand;
+            AtomicLongArray bits = ingang.getValue();
+            for (int w = 0; w < Math.min(woorden, bits.length()); w++) {
+                doel[w] |= bits.get(w);
+            }
+        }
+
+        List<Lokaal> vrij = new ArrayList<>();
+        for (Lokaal lokaal : lokalen) {
+            Integer bit = bitPerLokaal.get(lokaal.getId());
+            boolean isVrij;
+            if (bit == null) {
+                isVrij = true;
+            } else if (bit >>> 6 >= woorden) {
+                // Eerste event van dit lokaal kwam na het lezen van de bitmaps.
+                isVrij = zoekConflict(lokaal.getId(), start, eind, null).isEmpty();
+            } else if ((bezet[bit >>> 6] & 1L << bit) != 0) {
+                isVrij = false;
+            } else if ((rand[bit >>> 6] & 1L << bit) != 0) {
+                isVrij = zoekConflict(lokaal.getId(), start, eind, null).isEmpty();
+            } else {
+                isVrij = true;
+            }
+            if (isVrij) {
+                vrij.add(lokaal);
+            }
+        }
+        return vrij;
+    }
+
+    // Kwartieren tellen vanaf 1970; de tijdzone doet er niet toe, het gaat enkel om een vaste indeling.
+    private static long kwartier(LocalDateTime tijd) {
+        return Math.floorDiv(tijd.toEpochSecond(ZoneOffset.UTC), KWARTIER_SECONDEN);
+    }
+
+    private static LocalDateTime begin(long kwartier) {
+        return LocalDateTime.ofEpochSecond(kwartier * KWARTIER_SECONDEN, 0, ZoneOffset.UTC);
+    }
+
+    // Het interval is half open: een event dat precies op een kwartiergrens eindigt, raakt het volgende niet.
+    private static long laatsteKwartier(EventTijdslot slot) {
+        return Math.max(kwartier(slot.start()), kwartier(slot.eind().minusNanos(1)));
+    }
+
+    private static int woorden(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
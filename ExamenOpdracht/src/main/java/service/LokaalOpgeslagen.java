@@ -0,0 +1,9 @@
+package service;
+
+import domain.Lokaal;
+
+/**
+ * Gepubliceerd door {@link LokaalService#save(Lokaal)}; listeners draaien na de commit.
+ */
+public record LokaalOpgeslagen(Lokaal lokaal) {
+}
@@ -2,6 +2,7 @@ package service;
 
 import domain.Lokaal;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,5 @@ public interface LokaalService {
     Lokaal save(Lokaal lokaal);
     boolean bestaatNaam(String naam);
     Lokaal createLokaalInstance(); 
+    List<Lokaal> findVrij(LocalDateTime van, LocalDateTime tot, int minCapaciteit);
 }
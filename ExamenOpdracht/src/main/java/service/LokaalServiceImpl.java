@@ -1,44 +1,142 @@
 package service;
 
 import domain.Lokaal;
+import exception.OngeldigePeriodeException;
 import repository.LokaalRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service", histogram = true)
 public class LokaalServiceImpl implements LokaalService {
 
     private final LokaalRepository lokaalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LokaalBezetting lokaalBezetting;
 
-    public LokaalServiceImpl(LokaalRepository lokaalRepository) {
+    // Lokalen wijzigen zelden: één onveranderlijke momentopname, opnieuw geladen na elke save.
+    private volatile LokaalCache cache;
+    private final AtomicLong versie = new AtomicLong();
+    // Geen synchronized: die pint een virtuele thread aan zijn drager zolang findAll() op JDBC wacht.
+    private final ReentrantLock laadSlot = new ReentrantLock();
+
+    public LokaalServiceImpl(LokaalRepository lokaalRepository, ApplicationEventPublisher eventPublisher,
+                             LokaalBezetting lokaalBezetting) {
         this.lokaalRepository = lokaalRepository;
+        this.eventPublisher = eventPublisher;
+        this.lokaalBezetting = lokaalBezetting;
     }
 
     @Override
     public List<Lokaal> findAll() {
-        return lokaalRepository.findAll();
+        return cache().alle();
     }
 
     @Override
     public Optional<Lokaal> findById(Long id) {
-        return lokaalRepository.findById(id);
+        return Optional.ofNullable(cache().perId().get(id));
     }
 
     @Override
     public Lokaal save(Lokaal lokaal) {
-        return lokaalRepository.save(lokaal);
+        Lokaal opgeslagen;
+        try {
+            opgeslagen = lokaalRepository.save(lokaal);
+        } finally {
+            invalideer();
+        }
+        eventPublisher.publishEvent(new LokaalOpgeslagen(opgeslagen));
+        return opgeslagen;
     }
 
     @Override
     public boolean bestaatNaam(String naam) {
-        return lokaalRepository.findAll().stream()
-                .anyMatch(l -> l.getNaam().equalsIgnoreCase(naam));
+        return naam != null && cache().perNaam().containsKey(sleutel(naam));
     }
 
     @Override
     public Lokaal createLokaalInstance() {
         return new Lokaal();
     }
+
+    // Kleinste geschikte lokalen eerst.
+    @Override
+    public List<Lokaal> findVrij(LocalDateTime van, LocalDateTime tot, int minCapaciteit) {
+        if (van == null || tot == null || !tot.isAfter(van)) {
+            throw new OngeldigePeriodeException(van, tot);
+        }
+        List<Lokaal> opCapaciteit = cache().opCapaciteit();
+        // Eerste lokaal met genoeg plaats: binair zoeken in de gesorteerde lijst.
+        int laag = 0;
+        int hoog = opCapaciteit.size();
+        while (laag < hoog) {
+            int midden = (laag + hoog) >>> 1;
+            if (opCapaciteit.get(midden).getCapaciteit() < minCapaciteit) {
+                laag = midden + 1;
+            } else {
+                hoog = midden;
+            }
+        }
+        return lokaalBezetting.vrijeLokalen(opCapaciteit.subList(laag, opCapaciteit.size()), van, tot);
+    }
+
+    private void invalideer() {
+        versie.incrementAndGet();
+        cache = null;
+    }
+
+    private LokaalCache cache() {
+        LokaalCache huidig = cache;
+        if (huidig != null) {
+            return huidig;
+        }
+        laadSlot.lock();
+        try {
+            if (cache != null) {
+                return cache;
+            }
+            long versieBijLaden = versie.get();
+            LokaalCache geladen = LokaalCache.van(lokaalRepository.findAll());
+            // Een save tijdens het laden maakt deze momentopname al verouderd: niet bewaren.
+            if (versie.get() == versieBijLaden) {
+                cache = geladen;
+            }
+            return geladen;
+        } finally {
+            laadSlot.unlock();
+        }
+    }
+
+    private static String sleutel(String naam) {
+        return naam.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record LokaalCache(List<Lokaal> alle, List<Lokaal> opCapaciteit, Map<Long, Lokaal> perId,
+                               Map<String, Lokaal> perNaam) {
+
+        static LokaalCache van(List<Lokaal> lokalen) {
+            return new LokaalCache(
+                    List.copyOf(lokalen),
+                    lokalen.stream()
+                            .sorted(Comparator.comparingInt(Lokaal::getCapaciteit)
+                                    .thenComparing(Lokaal::getNaam, Comparator.nullsLast(Comparator.naturalOrder())))
+                            .toList(),
+                    lokalen.stream().collect(Collectors.toUnmodifiableMap(Lokaal::getId, Function.identity())),
+                    lokalen.stream()
+                            .filter(l -> l.getNaam() != null)
+                            .collect(Collectors.toUnmodifiableMap(l -> sleutel(l.getNaam()), Function.identity(), (a, b) -> a)));
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package service;
+
+import domain.EventPlaatsen;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import repository.EventRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Een teller per event in het geheugen, vóór de voorwaardelijke UPDATE in de databank.
+ *
+ * Een inschrijving claimt eerst een plaats met compare-and-set; lukt dat niet, dan is het event volzet zonder dat de
+ * databank iets merkt. Bij een run op één sessie gaan zo hoogstens zoveel aanvragen naar de databank als er nog
+ * plaatsen zijn. De databank blijft de enige waarheid: zegt zij volzet, dan volgt de teller. Een teller wordt per
+ * event één keer geladen en vervalt wanneer het event of een lokaal wijzigt, want dan kan de capaciteit anders zijn.
+ * Een generatieteller zorgt dat een teller die tijdens zo'n wijziging geladen werd, niet blijft hangen.
+ */
+@Component
+public class PlaatsTellers {
+
+    private final EventRepository eventRepository;
+
+    private final Map<Long, Teller> tellers = new ConcurrentHashMap<>();
+    // Eerst ophogen, dan verwijderen; het laden doet het omgekeerde (eerst bewaren, dan controleren).
+    private final AtomicLong generatie = new AtomicLong();
+
+    public PlaatsTellers(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventOpgeslagen(EventOpgeslagen opgeslagen) {
+        generatie.incrementAndGet();
+        tellers.remove(opgeslagen.event().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventVerwijderd(EventVerwijderd verwijderd) {
+        generatie.incrementAndGet();
+        tellers.remove(verwijderd.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opLokaalOpgeslagen(LokaalOpgeslagen opgeslagen) {
+        generatie.incrementAndGet();
+        tellers.clear();
+    }
+
+    /**
+     * De teller van het event, geladen uit de databank bij het eerste gebruik; leeg als het event niet bestaat.
+     */
+    public Optional<Teller> teller(Long eventId) {
+        Teller teller = tellers.get(eventId);
+        if (teller != null) {
+            return Optional.of(teller);
+        }
+        // Buiten computeIfAbsent: geen query terwijl een deel van de map vergrendeld is. Bij gelijktijdig laden wint
+        // de eerste teller.
+        long generatieBijLaden = generatie.get();
+        return eventRepository.findPlaatsen(eventId)
+                .map(plaatsen -> {
+                    Teller geladen = new Teller(plaatsen);
+                    Teller bestaand = tellers.putIfAbsent(eventId, geladen);
+                    if (bestaand != null) {
+                        return bestaand;
+                    }
+                    // Een wijziging die tijdens het laden committe, kan haar remove/clear al vóór onze put gedaan
+                    // hebben: deze teller is dan mogelijk verouderd en mag niet blijven.
+                    if (generatie.get() != generatieBijLaden) {
+                        tellers.remove(eventId, geladen);
+                    }
+                    return geladen;
+                });
+    }
+
+    public static final class Teller {
+
+        private final Long eventId;
+        private final int capaciteit;
+        // Bevestigde plaatsen plus claims van inschrijvingen die nog lopen.
+        private final AtomicInteger geclaimd;
+        private volatile boolean volzet;
+
+        private Teller(EventPlaatsen plaatsen) {
+            this.eventId = plaatsen.eventId();
+            this.capaciteit = plaatsen.capaciteit();
+            this.geclaimd = new AtomicInteger(plaatsen.bezet());
+        }
+
+        boolean claim() {
+            while (!volzet) {
+                int huidig = geclaimd.get();
+                if (huidig >= capaciteit) {
+                    return false;
+                }
+                if (geclaimd.compareAndSet(huidig, huidig + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void geefVrij() {
+            geclaimd.decrementAndGet();
+        }
+
+        void markeerVolzet() {
+            volzet = true;
+        }
+
+        public EventPlaatsen plaatsen() {
+            return new EventPlaatsen(eventId, capaciteit, volzet ? capaciteit : Math.min(geclaimd.get(), capaciteit));
+        }
+    }
+}
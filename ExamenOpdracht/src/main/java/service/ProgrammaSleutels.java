@@ -0,0 +1,86 @@
+package service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Sleutels waarmee de in-memory indexen events in programmavolgorde bewaren: de startminuut (sinds 2000, begrensd
+ * zodat de sleutel positief blijft) in de hoogste bits, het event-id in de laagste 32. Een gesorteerde array sleutels
+ * staat zo op (datumTijd, id), en een periode is een bereik sleutels.
+ */
+final class ProgrammaSleutels {
+
+    private static final LocalDateTime NULPUNT = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final long ID_BITS = 0xFFFF_FFFFL;
+
+    private ProgrammaSleutels() {
+    }
+
+    static long sleutel(LocalDateTime start, long id) {
+        if (id < 0 || id > ID_BITS) {
+            throw new IllegalArgumentException("Event-id buiten het bereik van de indexsleutel: " + id);
+        }
+        long minuten = Math.clamp(ChronoUnit.MINUTES.between(NULPUNT, start), 0, Integer.MAX_VALUE);
+        return minuten << 32 | id;
+    }
+
+    static long eventId(long sleutel) {
+        return sleutel & ID_BITS;
+    }
+
+    /**
+     * Gesorteerde vereniging zonder dubbels; beide arrays blijven ongemoeid.
+     */
+    static long[] voegSamen(long[] a, long[] b) {
+        long[] samen = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            long volgende = j == b.length || i < a.length && a[i] <= b[j] ? a[i++] : b[j++];
+            if (n == 0 || samen[n - 1] != volgende) {
+                samen[n++] = volgende;
+            }
+        }
+        return n == samen.length ? samen : Arrays.copyOf(samen, n);
+    }
+
+    /**
+     * Kopie zonder de sleutel, dezelfde array als ze er niet in zit, of null als er niets overblijft.
+     */
+    static long[] zonder(long[] sleutels, long sleutel) {
+        int i = Arrays.binarySearch(sleutels, sleutel);
+        if (i < 0) {
+            return sleutels;
+        }
+        if (sleutels.length == 1) {
+            return null;
+        }
+        long[] rest = new long[sleutels.length - 1];
+        System.arraycopy(sleutels, 0, rest, 0, i);
+        System.arraycopy(sleutels, i + 1, rest, i, sleutels.length - i - 1);
+        return rest;
+    }
+
+    /**
+     * Groeiende lijst sleutels waarin een index een hele reeks events verzamelt, zodat elke gedeelde array maar één
+     * keer vervangen wordt in plaats van per event.
+     */
+    static final class Lijst {
+
+        private long[] sleutels = new long[4];
+        private int aantal;
+
+        void voeg(long sleutel) {
+            if (aantal == sleutels.length) {
+                sleutels = Arrays.copyOf(sleutels, aantal * 2);
+            }
+            sleutels[aantal++] = sleutel;
+        }
+
+        long[] gesorteerd() {
+            long[] gesorteerd = Arrays.copyOf(sleutels, aantal);
+            Arrays.sort(gesorteerd);
+            return gesorteerd;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Versie van het programma (events en lokalen), opgehoogd na elke gecommitte wijziging.
+ *
+ * De REST-API bouwt er zijn ETags mee, zodat een ongewijzigde poll met {@code If-None-Match} beantwoord wordt zonder
+ * databank. Het opstarttijdstip hoort bij de tag: na een herstart begint de teller opnieuw en mag een oude tag niet
+ * meer passen.
+ */
+@Component
+public class ProgrammaVersie {
+
+    private final long opgestart = System.currentTimeMillis();
+    private final AtomicLong versie = new AtomicLong();
+    private final AtomicReference<Instant> laatstGewijzigd =
+            new AtomicReference<>(Instant.ofEpochMilli(opgestart).truncatedTo(ChronoUnit.SECONDS));
+
+    public long huidige() {
+        return versie.get();
+    }
+
+    /**
+     * Tijdstip van de laatste wijziging (of van het opstarten), op de seconde zoals {@code Last-Modified}.
+     * Elke wijziging schuift minstens één seconde op, zodat twee wijzigingen in dezelfde seconde nooit dezelfde
+     * waarde geven en een client met {@code If-Modified-Since} de tweede niet mist.
+     */
+    public Instant laatstGewijzigd() {
+        return laatstGewijzigd.get();
+    }
+
+    private void verhoog() {
+        versie.incrementAndGet();
+        Instant nu = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        laatstGewijzigd.updateAndGet(vorige -> nu.isAfter(vorige) ? nu : vorige.plusSeconds(1));
+    }
+
+    /**
+     * Sterke ETag voor één representatie (bv. "json" of "ndjson") van een programmabron.
+     */
+    public String etag(String representatie) {
+        return "\"" + Long.toString(opgestart, 36) + "-" + versie.get() + "-" + representatie + "\"";
+    }
+
+    // Pas na de commit ophogen: een client mag nooit de nieuwe tag krijgen bij oude data.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventOpgeslagen(EventOpgeslagen opgeslagen) {
+        verhoog();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventsGeimporteerd(EventsGeimporteerd geimporteerd) {
+        verhoog();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventVerwijderd(EventVerwijderd verwijderd) {
+        verhoog();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opLokaalOpgeslagen(LokaalOpgeslagen opgeslagen) {
+        verhoog();
+    }
+}
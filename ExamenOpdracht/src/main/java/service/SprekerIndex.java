@@ -0,0 +1,152 @@
+package service;
+
+import domain.Event;
+import domain.SprekerRij;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import repository.EventRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index van sprekers naar hun events, zodat de sessies van een spreker geen scan over event_sprekers kosten.
+ *
+ * Per genormaliseerde naam ({@link Event#normaliseerSpreker}) één spreker: de schrijfwijze die eerst gezien werd, als
+ * enige String voor alle events van die spreker, en een gesorteerde array {@link ProgrammaSleutels} in
+ * programmavolgorde. Opzoeken is één hash-lookup. Er is geen lijst per event: een wijziging of verwijdering zoekt
+ * het event in alle arrays, wat bij de zeldzame bewerkingen door een admin minder kost dan een extra map met een
+ * ingang per event.
+ */
+@Component
+public class SprekerIndex {
+
+    private final EventRepository eventRepository;
+
+    private final Map<String, Spreker> sprekers = new ConcurrentHashMap<>();
+
+    private record Spreker(String naam, long[] sleutels) {
+    }
+
+    /**
+     * Een spreker met zijn events in programmavolgorde.
+     */
+    public record Sessies(String spreker, List<Long> eventIds) {
+    }
+
+    public SprekerIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void laad() {
+        sprekers.clear();
+        Opbouw opbouw = new Opbouw();
+        try (Stream<SprekerRij> rijen = eventRepository.streamSprekerRijen()) {
+            rijen.forEach(rij -> opbouw.voeg(rij.spreker(), ProgrammaSleutels.sleutel(rij.datumTijd(), rij.eventId())));
+        }
+        opbouw.schrijf();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventOpgeslagen(EventOpgeslagen opgeslagen) {
+        registreer(opgeslagen.event());
+    }
+
+    // Geïmporteerde events zijn altijd nieuw: er valt niets te verwijderen.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventsGeimporteerd(EventsGeimporteerd geimporteerd) {
+        voegToe(geimporteerd.events());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void opEventVerwijderd(EventVerwijderd verwijderd) {
+        verwijder(verwijderd.eventId());
+    }
+
+    public synchronized void registreer(Event event) {
+        verwijder(event.getId());
+        voegToe(List.of(event));
+    }
+
+    public synchronized void voegToe(Collection<Event> events) {
+        Opbouw opbouw = new Opbouw();
+        for (Event event : events) {
+            if (event.getSprekers() == null) {
+                continue;
+            }
+            long sleutel = ProgrammaSleutels.sleutel(event.getDatumTijd(), event.getId());
+            for (String spreker : event.getSprekers()) {
+                opbouw.voeg(spreker, sleutel);
+            }
+        }
+        opbouw.schrijf();
+    }
+
+    public synchronized void verwijder(Long eventId) {
+        for (Map.Entry<String, Spreker> ingang : sprekers.entrySet()) {
+            Spreker spreker = ingang.getValue();
+            for (long sleutel : spreker.sleutels()) {
+                if (ProgrammaSleutels.eventId(sleutel) == eventId) {
+                    long[] rest = ProgrammaSleutels.zonder(spreker.sleutels(), sleutel);
+                    if (rest == null) {
+                        sprekers.remove(ingang.getKey());
+                    } else {
+                        ingang.setValue(new Spreker(spreker.naam(), rest));
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    public Optional<Sessies> zoek(String naam) {
+        Spreker spreker = naam != null ? sprekers.get(Event.normaliseerSpreker(naam)) : null;
+        if (spreker == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Sessies(spreker.naam(),
+                Arrays.stream(spreker.sleutels()).map(ProgrammaSleutels::eventId).boxed().toList()));
+    }
+
+    /**
+     * Verzamelt de sleutels per spreker voor een hele reeks events, zodat elke array maar één keer vervangen wordt.
+     */
+    private final class Opbouw {
+
+        private final Map<String, SprekerLijst> perSpreker = new HashMap<>();
+
+        void voeg(String spreker, long sleutel) {
+            if (spreker == null || spreker.isBlank()) {
+                return;
+            }
+            perSpreker.computeIfAbsent(Event.normaliseerSpreker(spreker), n -> new SprekerLijst(spreker.trim()))
+                    .sleutels.voeg(sleutel);
+        }
+
+        void schrijf() {
+            perSpreker.forEach((naam, lijst) -> sprekers.merge(naam, new Spreker(lijst.naam, lijst.sleutels.gesorteerd()),
+                    (oud, nieuw) -> new Spreker(oud.naam(), ProgrammaSleutels.voegSamen(oud.sleutels(), nieuw.sleutels()))));
+        }
+
+        private static final class SprekerLijst {
+
+            private final String naam;
+            private final ProgrammaSleutels.Lijst sleutels = new ProgrammaSleutels.Lijst();
+
+            SprekerLijst(String naam) {
+                this.naam = naam;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package service;
+
+import domain.EventTijdslot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tijdsloten per lokaal, gesorteerd op (start, eventId), met overlapcontrole.
+ *
+ * Een overlap met [start, eind) kan alleen komen van een slot dat vóór {@code eind} begint en niet vroeger dan
+ * {@code start - langste duur}; enkel dat stuk van de gesorteerde set wordt overlopen. Lezers hebben geen slot nodig;
+ * wie de index deelt, laat maar één schrijver tegelijk toe ({@link LokaalBezetting}). Een import gebruikt er een
+ * eigen exemplaar van als kladblok.
+ */
+final class TijdslotIndex {
+
+    private static final Comparator<EventTijdslot> VOLGORDE = Comparator
+            .comparing(EventTijdslot::start)
+            .thenComparing(EventTijdslot::eventId);
+
+    private final Map<Long, NavigableSet<EventTijdslot>> slotenPerLokaal = new ConcurrentHashMap<>();
+    private final Map<Long, EventTijdslot> slotPerEvent = new ConcurrentHashMap<>();
+    private final AtomicLong langsteDuurNanos = new AtomicLong();
+
+    void wis() {
+        slotenPerLokaal.clear();
+        slotPerEvent.clear();
+    }
+
+    /**
+     * Voegt het slot toe; een vorig slot van hetzelfde event moet eerst weg met {@link #verwijder}.
+     */
+    void voegToe(EventTijdslot slot) {
+        slotenPerLokaal.computeIfAbsent(slot.lokaalId(), id -> new ConcurrentSkipListSet<>(VOLGORDE)).add(slot);
+        slotPerEvent.put(slot.eventId(), slot);
+        long duur = Duration.between(slot.start(), slot.eind()).toNanos();
+        langsteDuurNanos.accumulateAndGet(duur, Math::max);
+    }
+
+    /**
+     * Haalt het slot van het event weg en geeft het terug, of null als het event geen slot had.
+     */
+    EventTijdslot verwijder(Long eventId) {
+        EventTijdslot oud = slotPerEvent.remove(eventId);
+        if (oud != null) {
+            NavigableSet<EventTijdslot> sloten = slotenPerLokaal.get(oud.lokaalId());
+            if (sloten != null) {
+                sloten.remove(oud);
+            }
+        }
+        return oud;
+    }
+
+    /**
+     * Zoekt een ander event dat het lokaal bezet tijdens [start, eind).
+     *
+     * @param negeerEventId het event dat bewerkt wordt, of null bij een nieuw event
+     */
+    Optional<EventTijdslot> zoekConflict(Long lokaalId, LocalDateTime start, LocalDateTime eind, Long negeerEventId) {
+        NavigableSet<EventTijdslot> sloten = slotenPerLokaal.get(lokaalId);
+        if (sloten == null || sloten.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime vroegsteStart = start.minusNanos(langsteDuurNanos.get());
+        EventTijdslot van = new EventTijdslot(Long.MIN_VALUE, lokaalId, vroegsteStart, vroegsteStart);
+        EventTijdslot tot = new EventTijdslot(Long.MIN_VALUE, lokaalId, eind, eind);
+        for (EventTijdslot slot : sloten.subSet(van, true, tot, false)) {
+            if (!slot.eventId().equals(negeerEventId) && slot.overlaptMet(start, eind)) {
+                return Optional.of(slot);
+            }
+        }
+        return Optional.empty();
+    }
+}
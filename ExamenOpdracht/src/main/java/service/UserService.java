@@ -5,12 +5,15 @@ import domain.User;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserService {
     Optional<User> findByUsername(String username);
     User save(User user);
     List<Event> getFavorieten(User user);
     boolean isFavoriet(User user, Event event);
+    Set<Long> getFavorietIds(User user);
     boolean voegFavorietToe(User user, Event event);
+    boolean verwijderFavoriet(User user, Event event);
     boolean isFavorietenLimietBereikt(User user);
 }
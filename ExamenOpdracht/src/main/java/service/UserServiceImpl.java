@@ -1,24 +1,45 @@
 package service;
 
 import domain.Event;
+import domain.FavorietenStand;
 import domain.User;
 import repository.UserRepository;
 import service.UserService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 @Service
+@Timed(value = "service", histogram = true)
 @Transactional
 public class UserServiceImpl implements UserService {
 
-    private static final int MAX_FAVORIETEN = 1;
+    // Een poging faalt enkel als een andere wijziging intussen slaagde; na de limiet slagen er geen meer.
+    private static final int MAX_POGINGEN = 10;
 
     private final UserRepository userRepository;
+    private final int maxFavorieten;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository,
+                           @Value("${favorieten.max:1}") int maxFavorieten,
+                           PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.maxFavorieten = maxFavorieten;
+        // Elke poging een eigen transactie, ook als de aanroeper er een heeft: anders blijft de stand onder
+        // REPEATABLE READ dezelfde oude momentopname en faalt elke herhaling.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
@@ -42,22 +63,62 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isFavoriet(User user, Event event) {
-        return user.getFavorieten().contains(event);
+        return userRepository.telFavoriet(user.getId(), event.getId()) > 0;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getFavorietIds(User user) {
+        return new HashSet<>(userRepository.findFavorietIds(user.getId()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean voegFavorietToe(User user, Event event) {
-        if (isFavorietenLimietBereikt(user) || isFavoriet(user, event)) {
-            return false;
+        return wijzigFavorieten(user, event, stand -> !stand.favoriet() && stand.aantal() < maxFavorieten,
+                () -> userRepository.voegFavorietToeOnderLimiet(user.getId(), event.getId(), maxFavorieten) == 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean verwijderFavoriet(User user, Event event) {
+        return wijzigFavorieten(user, event, FavorietenStand::favoriet,
+                () -> userRepository.verwijderFavoriet(user.getId(), event.getId()) == 1);
+    }
+
+    /**
+     * Optimistische wijziging van de favorieten: lees de stand met de versie van de gebruiker, controleer, verhoog
+     * de versie enkel als ze nog dezelfde is en schrijf dan pas. Wie tussen lezen en schrijven voorgestoken werd,
+     * begint opnieuw met een verse stand, elke poging in een eigen transactie.
+     * Zo gaat geen gelijktijdige klik verloren en komt niemand boven de limiet, ook niet als het isolatieniveau
+     * beide transacties dezelfde oude telling laat zien.
+     */
+    private boolean wijzigFavorieten(User user, Event event, Predicate<FavorietenStand> toegelaten,
+                                     BooleanSupplier wijziging) {
+        for (int poging = 1; poging <= MAX_POGINGEN; poging++) {
+            Boolean gelukt = transactionTemplate.execute(status -> {
+                FavorietenStand stand = userRepository.findFavorietenStand(user.getId(), event.getId()).orElse(null);
+                if (stand == null || !toegelaten.test(stand)) {
+                    return false;
+                }
+                if (userRepository.verhoogVersie(user.getId(), stand.versie()) == 0) {
+                    return null;
+                }
+                return wijziging.getAsBoolean();
+            });
+            if (gelukt != null) {
+                return gelukt;
+            }
         }
-        user.getFavorieten().add(event);
-        userRepository.save(user);
-        return true;
+        throw new OptimisticLockingFailureException("Favorieten van " + user.getUsername()
+                + " na " + MAX_POGINGEN + " pogingen nog altijd gelijktijdig gewijzigd");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isFavorietenLimietBereikt(User user) {
-        return user.getFavorieten().size() >= MAX_FAVORIETEN;
+        return userRepository.telFavorieten(user.getId()) >= maxFavorieten;
     }
 }
@@ -0,0 +1,43 @@
+package validation;
+
+import domain.Event;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Regels voor één event die geen databank nodig hebben; gedeeld door het formulier en de bulkimport.
+ */
+public final class EventRegels {
+
+    private EventRegels() {
+    }
+
+    public static void valideer(Event event, LocalDateTime nu, Errors errors) {
+        if (event.getDatumTijd() != null && event.getDatumTijd().isBefore(nu)) {
+            errors.rejectValue("datumTijd", "event.datumtijd.past", "De datum en tijd moeten in de toekomst liggen.");
+        }
+
+        if (event.getNaam() != null && event.getNaam().trim().isEmpty()) {
+            errors.rejectValue("naam", "event.naam.notblank", "Naam mag niet leeg zijn.");
+        }
+
+        if (event.getSprekers() == null || event.getSprekers().isEmpty()) {
+            errors.rejectValue("sprekers", "event.sprekers.size", "Er moet minstens één spreker zijn.");
+        } else {
+            if (event.getSprekers().get(0) == null || event.getSprekers().get(0).trim().isEmpty()) {
+                errors.rejectValue("sprekers", "event.spreker.first.notblank", "De eerste spreker mag niet leeg zijn.");
+            }
+            // Eén doorgang: een spreker die al gezien is (genormaliseerd), is dubbel.
+            Set<String> gezien = new HashSet<>();
+            for (String spreker : event.getSprekers()) {
+                if (spreker != null && !spreker.isBlank() && !gezien.add(Event.normaliseerSpreker(spreker))) {
+                    errors.rejectValue("sprekers", "event.sprekers.duplicate", "Sprekers mogen niet dubbel voorkomen.");
+                    break;
+                }
+            }
+        }
+    }
+}
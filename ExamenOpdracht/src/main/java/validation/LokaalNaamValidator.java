@@ -3,9 +3,15 @@ package validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.regex.Pattern;
+
 public class LokaalNaamValidator implements ConstraintValidator<ValidLokaalNaam, String> {
+
+    // Eén keer compileren; String.matches compileert de regex bij elke oproep opnieuw.
+    private static final Pattern LOKAAL_NAAM = Pattern.compile("^[A-Za-z]\\d{3}$");
+
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        return value != null && value.matches("^[A-Za-z]\\d{3}$");
+        return value != null && LOKAAL_NAAM.matcher(value).matches();
     }
 }
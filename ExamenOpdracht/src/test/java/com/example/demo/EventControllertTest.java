@@ -1,6 +1,10 @@
 package com.example.demo;
 
 import domain.Event;
+import domain.EventPagina;
+import domain.EventWeergave;
+import domain.LokaalWeergave;
+import domain.SprekerProgramma;
 import domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,8 +26,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -64,6 +70,117 @@ class EventControllerTest {
         });
     }
 
+    @Test
+    void testShowAllEventsToontEerstePagina() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Test Event", null, List.of("Spreker 1"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 5, 10, 0), null, null);
+
+        when(eventService.findPagina(any(), any(), any(), anyInt()))
+                .thenReturn(new EventPagina(List.of(event), "volgende"));
+
+        mockMvc.perform(get("/")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-10"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("events"))
+                .andExpect(model().attribute("rijen", containsString("Test Event")))
+                .andExpect(model().attribute("volgendeCursor", "volgende"));
+
+        verify(eventService).findPagina(
+                LocalDateTime.of(2025, 6, 1, 0, 0),
+                LocalDateTime.of(2025, 6, 11, 0, 0),
+                null,
+                25);
+    }
+
+    @Test
+    void testShowAllEventsGeeftBegrensdeGrootteDoorAanDeLinks() throws Exception {
+        when(eventService.findPagina(any(), any(), any(), anyInt()))
+                .thenReturn(new EventPagina(List.of(), "volgende"));
+
+        mockMvc.perform(get("/").param("size", "500"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("size", 200));
+
+        verify(eventService).findPagina(null, null, null, 200);
+    }
+
+    @Test
+    void testShowAllEventsHergebruiktGerenderdeRijen() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Gecachet Event", null, List.of("Spreker 1"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 7, 10, 0), null, null);
+        when(eventService.findPagina(any(), any(), any(), anyInt()))
+                .thenReturn(new EventPagina(List.of(event), null));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/").param("from", "2025-06-07").param("to", "2025-06-07"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("Gecachet Event")));
+        }
+
+        verify(eventService, times(1)).findPagina(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testShowAllEventsSchakeltFavorietKnopUitPerGebruiker() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Favoriet Event", null, List.of("Spreker 1"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 8, 10, 0), null, null);
+        EventWeergave ander = new EventWeergave(2L, "Ander Event", null, List.of("Spreker 2"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 8, 14, 0), null, null);
+        when(eventService.findPagina(any(), any(), any(), anyInt()))
+                .thenReturn(new EventPagina(List.of(event, ander), null));
+
+        User user = new User();
+        user.setUsername("user");
+        when(userService.findByUsername("user")).thenReturn(Optional.of(user));
+        when(userService.isFavorietenLimietBereikt(user)).thenReturn(false);
+        when(userService.getFavorietIds(user)).thenReturn(Set.of(1L));
+
+        mockMvc.perform(get("/").param("from", "2025-06-08").param("to", "2025-06-08")
+                        .with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("disabled=\"disabled\" data-favoriet=\"1\"")))
+                .andExpect(content().string(containsString("<button type=\"submit\" data-favoriet=\"2\"")));
+    }
+
+    @Test
+    void testShowAllEventsOngeldigeCursor() throws Exception {
+        mockMvc.perform(get("/").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testShowEventDetailsToontWeergave() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Test Event", "Beschrijving", List.of("Spreker 1", "Spreker 2"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 5, 10, 0), null, null);
+
+        User user = new User();
+        user.setUsername("user");
+
+        when(eventService.findWeergaveById(1L)).thenReturn(event);
+        when(userService.findByUsername("user")).thenReturn(Optional.of(user));
+
+        mockMvc.perform(get("/event/1").with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(view().name("event-details"))
+                .andExpect(model().attribute("event", event));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testShowSprekerEventsToontSessies() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Test Event", null, List.of("Jan Janssens"),
+                new LokaalWeergave(1L, "A101", 50), LocalDateTime.of(2025, 6, 5, 10, 0), null, null);
+        when(eventService.findBySpreker("jan janssens"))
+                .thenReturn(new SprekerProgramma("Jan Janssens", List.of(event)));
+
+        mockMvc.perform(get("/spreker/{naam}", "jan janssens"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("spreker"))
+                .andExpect(content().string(containsString("Sessies van Jan Janssens")))
+                .andExpect(content().string(containsString("href=\"/event/1\"")));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testToonEventToevoegPagina() throws Exception {
@@ -152,6 +269,26 @@ class EventControllerTest {
                 .andExpect(redirectedUrl("/event/1"));
     }
 
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void testVerwijderFavoriet() throws Exception {
+        Event event = new Event();
+        event.setId(1L);
+
+        User user = new User();
+        user.setUsername("user1");
+
+        when(userService.findByUsername("user1")).thenReturn(Optional.of(user));
+        when(eventService.findById(1L)).thenReturn(event);
+        when(userService.verwijderFavoriet(user, event)).thenReturn(true);
+
+        mockMvc.perform(post("/event/favoriet-verwijderen/1").with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeCount(0))
+                .andExpect(redirectedUrl("/event/1"));
+        verify(userService).verwijderFavoriet(user, event);
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testToonEventBewerkenPagina() throws Exception {
@@ -0,0 +1,119 @@
+package com.example.demo;
+
+import domain.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import service.EventService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Blokken van 2 rijen, zodat conflicten ook over blokgrenzen heen getest worden.
+@SpringBootTest(properties = {"programma.klok=2025-05-01T00:00:00Z", "import.blok-grootte=2"})
+@AutoConfigureMockMvc
+@Transactional
+public class EventImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importeerCsv_RapporteertPerRij() throws Exception {
+        String csv = """
+                naam;sprekers;lokaal;datumTijd;duurMinuten;beamerCode;beamerCheck;prijs
+                Kotlin Workshop;Ada Lovelace|Grace Hopper;A101;2025-06-12T09:00;60;1234;70;19.99
+                Java Records;Linus Torvalds;A101;2025-06-12T09:30;30;1234;70;19.99
+                kotlin workshop;Ken Thompson;B202;2025-06-12T14:00;60;1234;70;19.99
+                Gradle Tips;Ken Thompson;A101;2025-06-10T10:00;30;1234;70;19.99
+                Onbekend Lokaal;Ken Thompson;Z999;2025-07-01T10:00;30;1234;70;19.99
+                "Docker; de basis";Ken Thompson;B202;2025-06-12T14:00;60;1234;70;19.99
+                """;
+
+        mockMvc.perform(post("/api/events/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rijen").value(6))
+                .andExpect(jsonPath("$.geimporteerd").value(2))
+                .andExpect(jsonPath("$.geweigerd").value(4))
+                .andExpect(jsonPath("$.resultaten[0].id").isNumber())
+                // Overlapt met rij 1 in hetzelfde blok.
+                .andExpect(jsonPath("$.resultaten[1].fouten[0]").value(startsWith("datumTijd:")))
+                // Zelfde naam op dezelfde dag als rij 1, in een later blok.
+                .andExpect(jsonPath("$.resultaten[2].fouten[0]").value(startsWith("naam:")))
+                // Botst met "Spring Boot Introductie" uit de databank.
+                .andExpect(jsonPath("$.resultaten[3].fouten[0]").value(startsWith("datumTijd:")))
+                .andExpect(jsonPath("$.resultaten[4].id").value(nullValue()))
+                .andExpect(jsonPath("$.resultaten[4].fouten", hasItem(containsString("Z999"))))
+                .andExpect(jsonPath("$.resultaten[4].fouten", hasItem(startsWith("datumTijd:"))))
+                .andExpect(jsonPath("$.resultaten[5].id").isNumber());
+
+        List<Event> kotlin = eventService.findByNaamAndDatum("Kotlin Workshop", LocalDate.of(2025, 6, 12));
+        assertEquals(1, kotlin.size());
+        assertEquals(List.of("Ada Lovelace", "Grace Hopper"), kotlin.get(0).getSprekers());
+        assertEquals(1, eventService.findByNaamAndDatum("Docker; de basis", LocalDate.of(2025, 6, 12)).size());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importeerJson_SlaatGeldigeRijenOp() throws Exception {
+        String json = """
+                [
+                  {"naam": "GraalVM", "sprekers": ["Ada Lovelace"], "lokaal": "b202",
+                   "datumTijd": "2025-06-20T10:00:00", "duurMinuten": 45, "beamerCode": 1234, "beamerCheck": 70, "prijs": 25},
+                  {"naam": "Quarkus", "sprekers": ["Grace Hopper"], "lokaal": "B202",
+                   "datumTijd": "geen datum", "beamerCode": 1234, "beamerCheck": 70, "prijs": 25}
+                ]""";
+
+        mockMvc.perform(post("/api/events/import").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.geimporteerd").value(1))
+                .andExpect(jsonPath("$.resultaten[1].fouten[0]").value("datumTijd: ongeldige waarde"));
+
+        assertEquals(1, eventService.findByNaamAndDatum("GraalVM", LocalDate.of(2025, 6, 20)).size());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importeerCsv_VeelLegeRegels_WordenOvergeslagen() throws Exception {
+        String csv = "naam;sprekers;lokaal;datumTijd;duurMinuten;beamerCode;beamerCheck;prijs\n"
+                + "\r\n".repeat(100_000)
+                + "Micronaut;Ada Lovelace;B202;2025-06-21T10:00;30;1234;70;19.99\n"
+                + "\n".repeat(100_000);
+
+        mockMvc.perform(post("/api/events/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rijen").value(1))
+                .andExpect(jsonPath("$.geimporteerd").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importeerJson_GeenArray_Geeft400() throws Exception {
+        mockMvc.perform(post("/api/events/import").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void importeer_AlsGebruiker_Geweigerd() throws Exception {
+        mockMvc.perform(post("/api/events/import").contentType("text/csv").content("naam\n"))
+                .andExpect(status().isForbidden());
+    }
+}
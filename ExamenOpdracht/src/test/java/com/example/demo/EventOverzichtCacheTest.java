@@ -0,0 +1,73 @@
+package com.example.demo;
+
+import domain.EventCursor;
+import domain.EventPagina;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.ITemplateEngine;
+import service.ProgrammaVersie;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class EventOverzichtCacheTest {
+
+    private final AtomicInteger geladen = new AtomicInteger();
+    private EventOverzichtCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ITemplateEngine templateEngine = Mockito.mock(ITemplateEngine.class);
+        Mockito.when(templateEngine.process(anyString(), anySet(), any())).thenReturn("<tr></tr>");
+        cache = new EventOverzichtCache(templateEngine, new ProgrammaVersie(), new MockServletContext(), 2);
+    }
+
+    @Test
+    void sleutelGebruiktGedecodeerdeCursorEnBegrensdeGrootte() {
+        EventCursor na = new EventCursor(LocalDateTime.of(2025, 6, 10, 9, 0), 7L);
+
+        vraag(EventCursor.decode(na.encode()), EventPagina.grootte(500));
+        vraag(na, EventPagina.grootte(200));
+
+        assertEquals(1, geladen.get());
+    }
+
+    @Test
+    void volleCacheVerdringtDeMinstRecentGevraagdePagina() {
+        EventCursor eerste = new EventCursor(LocalDateTime.of(2025, 6, 10, 9, 0), 1L);
+        EventCursor tweede = new EventCursor(LocalDateTime.of(2025, 6, 10, 10, 0), 2L);
+
+        vraag(null, 25);
+        vraag(eerste, 25);
+        vraag(null, 25);
+        vraag(tweede, 25);
+        assertEquals(3, geladen.get());
+
+        // De startpagina werd recenter gevraagd dan de eerste cursorpagina: die laatste is verdrongen.
+        vraag(null, 25);
+        assertEquals(3, geladen.get());
+        vraag(eerste, 25);
+        assertEquals(4, geladen.get());
+        vraag(null, 25);
+        assertEquals(4, geladen.get());
+    }
+
+    private void vraag(EventCursor na, int grootte) {
+        cache.rijen(new MockHttpServletRequest(), new MockHttpServletResponse(), Locale.ROOT, false, true,
+                null, null, na, grootte, () -> {
+                    geladen.incrementAndGet();
+                    return new EventPagina(List.of(), null);
+                });
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.demo;
 
-import domain.Event;
+import domain.EventPagina;
+import domain.EventWeergave;
+import domain.EventZoekResultaat;
+import domain.LokaalWeergave;
+import domain.SprekerProgramma;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,13 +13,28 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import service.EventService;
+import service.EventVerwijderd;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,11 +48,13 @@ public class EventRestControllerTest {
     @MockBean
     private EventService eventService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void getEventsByDate_ReturnsJsonList() throws Exception {
-        Event event = new Event();
-        event.setNaam("TestEvent");
-        event.setDatumTijd(LocalDate.of(2025, 5, 23).atStartOfDay());
+        EventWeergave event = new EventWeergave(1L, "TestEvent", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 5, 23).atStartOfDay(), null, null);
 
         Mockito.when(eventService.getEventsOpDatum(any(LocalDate.class)))
                 .thenReturn(List.of(event));
@@ -41,7 +62,138 @@ public class EventRestControllerTest {
         mockMvc.perform(get("/api/events")
                         .param("datum", "2025-05-23"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].naam").value("TestEvent"));
+                .andExpect(jsonPath("$[0].naam").value("TestEvent"))
+                .andExpect(jsonPath("$[0].lokaal.naam").value("A101"))
+                .andExpect(jsonPath("$[0].sprekers[0]").value("Spreker"));
+    }
+
+    @Test
+    void getEvents_ZonderDatum_GeeftPaginaMetCursor() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "TestEvent", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atStartOfDay(), null, null);
+
+        Mockito.when(eventService.findPagina(any(), any(), isNull(), anyInt()))
+                .thenReturn(new EventPagina(List.of(event), "abc"));
+
+        mockMvc.perform(get("/api/events")
+                        .param("from", "2025-06-01")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].naam").value("TestEvent"))
+                .andExpect(jsonPath("$.volgendeCursor").value("abc"));
+    }
+
+    @Test
+    void searchEvents_GeeftTreffersEnTotaal() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Spring Boot Introductie", null, List.of("Jan Janssens"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(10, 0), null, null);
+
+        Mockito.when(eventService.zoek(eq("spring jan"), isNull(), isNull(), eq(25)))
+                .thenReturn(new EventZoekResultaat("spring jan", 7, false, List.of(event)));
+
+        mockMvc.perform(get("/api/events/search")
+                        .param("q", "spring jan"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totaal").value(7))
+                .andExpect(jsonPath("$.events[0].naam").value("Spring Boot Introductie"));
+    }
+
+    @Test
+    void getEventsVanSpreker_GeeftProgramma() throws Exception {
+        EventWeergave event = new EventWeergave(1L, "Spring Boot Introductie", null, List.of("Jan Janssens"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(10, 0), null, null);
+
+        Mockito.when(eventService.findBySpreker("jan janssens"))
+                .thenReturn(new SprekerProgramma("Jan Janssens", List.of(event)));
+
+        mockMvc.perform(get("/api/sprekers/{naam}/events", "jan janssens"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spreker").value("Jan Janssens"))
+                .andExpect(jsonPath("$.events[0].id").value(1));
+    }
+
+    @Test
+    void getEventsVanOnbekendeSpreker_Geeft404() throws Exception {
+        mockMvc.perform(get("/api/sprekers/{naam}/events", "Niemand"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getEventsByDate_Ndjson_StreamtEenEventPerRegel() throws Exception {
+        EventWeergave eerste = new EventWeergave(1L, "Eerste", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(10, 0), null, null);
+        EventWeergave tweede = new EventWeergave(2L, "Tweede", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(14, 0), null, null);
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<EventWeergave> verwerker = invocation.getArgument(1);
+            verwerker.accept(eerste);
+            verwerker.accept(tweede);
+            return null;
+        }).when(eventService).streamEventsOpDatum(any(LocalDate.class), any());
+
+        MvcResult result = mockMvc.perform(get("/api/events")
+                        .param("datum", "2025-06-10")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] regels = body.split("\n");
+        assertEquals(2, regels.length);
+        assertTrue(regels[0].contains("\"naam\":\"Eerste\""));
+        assertTrue(regels[1].contains("\"naam\":\"Tweede\""));
+    }
+
+    @Test
+    void getEventsByDate_IfNoneMatch_Geeft304ZonderService() throws Exception {
+        Mockito.when(eventService.getEventsOpDatum(any(LocalDate.class))).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/events").param("datum", "2025-06-10"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events").param("datum", "2025-06-10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(eventService, times(1)).getEventsOpDatum(any(LocalDate.class));
+    }
+
+    @Test
+    void getEventsByDate_EtagVanAndereDag_Geeft200() throws Exception {
+        Mockito.when(eventService.getEventsOpDatum(any(LocalDate.class))).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/events").param("datum", "2025-06-10"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events").param("datum", "2025-06-11")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+        verify(eventService).getEventsOpDatum(LocalDate.of(2025, 6, 11));
     }
 
+    @Test
+    void getEventsByDate_NaWijziging_NieuweEtag() throws Exception {
+        Mockito.when(eventService.getEventsOpDatum(any(LocalDate.class))).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/events").param("datum", "2025-06-10"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventPublisher.publishEvent(new EventVerwijderd(999L));
+
+        mockMvc.perform(get("/api/events").param("datum", "2025-06-10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
 }
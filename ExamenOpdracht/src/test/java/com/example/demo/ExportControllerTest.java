@@ -0,0 +1,171 @@
+package com.example.demo;
+
+import domain.EventWeergave;
+import domain.LokaalWeergave;
+import domain.User;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import service.EventService;
+import service.UserService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "programma.tijdzone=Europe/Brussels")
+@AutoConfigureMockMvc
+@WithMockUser(username = "user", roles = "USER")
+public class ExportControllerTest {
+
+    private static final EventWeergave EVENT = new EventWeergave(7L, "Spring; Boot, deel 2", "Eerste regel\nTweede",
+            List.of("Jan Janssens", "Marie Curie"), new LokaalWeergave(1L, "A101", 50),
+            LocalDateTime.of(2025, 6, 10, 10, 0), 90, new BigDecimal("19.99"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EventService eventService;
+
+    @MockBean
+    private UserService userService;
+
+    private void streamt(EventWeergave... events) {
+        Mockito.doAnswer(invocation -> {
+            Consumer<EventWeergave> verwerker = invocation.getArgument(0);
+            for (EventWeergave event : events) {
+                verwerker.accept(event);
+            }
+            return null;
+        }).when(eventService).streamEvents(any());
+    }
+
+    private String body(MvcResult result) throws Exception {
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void programmaIcs_StreamtVeventsInUtc() throws Exception {
+        streamt(EVENT);
+
+        MvcResult result = mockMvc.perform(get("/api/events.ics"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/calendar;charset=UTF-8"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String ics = body(result);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        // 10:00 in Brussel (zomertijd) is 08:00 UTC; 90 minuten later eindigt het.
+        assertTrue(ics.contains("DTSTART:20250610T080000Z\r\n"));
+        assertTrue(ics.contains("DTEND:20250610T093000Z\r\n"));
+        assertTrue(ics.contains("SUMMARY:Spring\\; Boot\\, deel 2\r\n"));
+        assertTrue(ics.contains("DESCRIPTION:Eerste regel\\nTweede\\nSprekers: Jan Janssens\\, Marie Curie\r\n"));
+        assertTrue(ics.contains("UID:event-7@examenopdracht\r\n"));
+        for (String regel : ics.split("\r\n")) {
+            assertTrue(regel.length() <= 75, regel);
+        }
+    }
+
+    @Test
+    void programmaIcs_IfNoneMatch_Geeft304ZonderDatabank() throws Exception {
+        streamt(EVENT);
+        MvcResult eerste = mockMvc.perform(get("/api/events.ics")).andReturn();
+        body(eerste);
+        String etag = eerste.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events.ics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(request().asyncNotStarted());
+        mockMvc.perform(get("/api/events.ics")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, eerste.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, times(1)).streamEvents(any());
+    }
+
+    @Test
+    void programmaCsv_ZelfdeKolommenAlsImport() throws Exception {
+        streamt(EVENT);
+
+        String csv = body(mockMvc.perform(get("/api/events.csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andReturn());
+
+        assertEquals("id,naam,beschrijving,sprekers,lokaal,datumTijd,duurMinuten,prijs\r\n"
+                + "7,\"Spring; Boot, deel 2\",\"Eerste regel\nTweede\",Jan Janssens|Marie Curie,A101,"
+                + "2025-06-10T10:00,90,19.99\r\n", csv);
+    }
+
+    @Test
+    void favorietenIcs_EtagVolgtFavorieten() throws Exception {
+        User user = new User();
+        user.setId(3L);
+        user.setUsername("user");
+        Mockito.when(userService.findByUsername("user")).thenReturn(Optional.of(user));
+        Mockito.when(userService.getFavorietIds(user)).thenReturn(Set.of(7L));
+        Mockito.doAnswer(invocation -> {
+            Consumer<EventWeergave> verwerker = invocation.getArgument(1);
+            verwerker.accept(EVENT);
+            return null;
+        }).when(eventService).streamFavorieten(eq(3L), any());
+
+        MvcResult eerste = mockMvc.perform(get("/favorieten.ics")).andReturn();
+        assertTrue(body(eerste).contains("X-WR-CALNAME:Mijn favorieten\r\n"));
+        String etag = eerste.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/favorieten.ics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Mockito.when(userService.getFavorietIds(user)).thenReturn(Set.of(7L, 8L));
+        mockMvc.perform(get("/favorieten.ics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+
+        verify(eventService, never()).streamEvents(any());
+    }
+
+    @Test
+    void favorietenIcs_AndereFavorietenMetZelfdeHashGeven200() throws Exception {
+        User user = new User();
+        user.setId(3L);
+        user.setUsername("user");
+        Mockito.when(userService.findByUsername("user")).thenReturn(Optional.of(user));
+        // List.of(1L, 40L).hashCode() == List.of(2L, 9L).hashCode()
+        Mockito.when(userService.getFavorietIds(user)).thenReturn(Set.of(1L, 40L));
+        String etag = mockMvc.perform(get("/favorieten.ics")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Mockito.when(userService.getFavorietIds(user)).thenReturn(Set.of(2L, 9L));
+        mockMvc.perform(get("/favorieten.ics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+}
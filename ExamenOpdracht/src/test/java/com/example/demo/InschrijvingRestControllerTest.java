@@ -0,0 +1,88 @@
+package com.example.demo;
+
+import domain.EventPlaatsen;
+import domain.InschrijvingResultaat;
+import domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import service.InschrijvingService;
+import service.UserService;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class InschrijvingRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private InschrijvingService inschrijvingService;
+
+    @MockBean
+    private UserService userService;
+
+    private final User bezoeker = new User();
+
+    @BeforeEach
+    void setUp() {
+        bezoeker.setUsername("user");
+        Mockito.when(userService.findByUsername("user")).thenReturn(Optional.of(bezoeker));
+    }
+
+    @Test
+    void getPlaatsen_GeeftVrijePlaatsen() throws Exception {
+        Mockito.when(inschrijvingService.getPlaatsen(1L)).thenReturn(new EventPlaatsen(1L, 50, 48));
+
+        mockMvc.perform(get("/api/events/1/plaatsen").with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capaciteit").value(50))
+                .andExpect(jsonPath("$.vrij").value(2));
+    }
+
+    @Test
+    void getPlaatsen_OnbekendEvent_Geeft404() throws Exception {
+        mockMvc.perform(get("/api/events/999/plaatsen").with(user("user").roles("USER")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void schrijfIn_Geeft201MetResterendePlaatsen() throws Exception {
+        Mockito.when(inschrijvingService.schrijfIn(eq(bezoeker), eq(1L))).thenReturn(InschrijvingResultaat.INGESCHREVEN);
+        Mockito.when(inschrijvingService.getPlaatsen(1L)).thenReturn(new EventPlaatsen(1L, 50, 49));
+
+        mockMvc.perform(post("/api/events/1/inschrijvingen").with(user("user").roles("USER")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultaat").value("INGESCHREVEN"))
+                .andExpect(jsonPath("$.plaatsen.vrij").value(1));
+    }
+
+    @Test
+    void schrijfIn_Volzet_Geeft409() throws Exception {
+        Mockito.when(inschrijvingService.schrijfIn(eq(bezoeker), eq(1L))).thenReturn(InschrijvingResultaat.VOLZET);
+        Mockito.when(inschrijvingService.getPlaatsen(1L)).thenReturn(new EventPlaatsen(1L, 50, 50));
+
+        mockMvc.perform(post("/api/events/1/inschrijvingen").with(user("user").roles("USER")))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultaat").value("VOLZET"));
+    }
+
+    @Test
+    void schrijfIn_AlsAdmin_Geweigerd() throws Exception {
+        mockMvc.perform(post("/api/events/1/inschrijvingen").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -7,12 +7,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import service.LokaalService;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,4 +52,48 @@ public class LokaalRestControllerTest {
                 .with(user("user").roles("USER")))
                 .andExpect(status().isNotFound()); 
     }
+
+    @Test
+    void getLokaalCapaciteit_EtagEnCacheControl_304BijOngewijzigd() throws Exception {
+        Lokaal lokaal = new Lokaal();
+        lokaal.setCapaciteit(40);
+        Mockito.when(lokaalService.findById(anyLong())).thenReturn(Optional.of(lokaal));
+
+        String etag = mockMvc.perform(get("/api/lokaal/1/capaciteit")
+                .with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/lokaal/1/capaciteit")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .with(user("user").roles("USER")))
+                .andExpect(status().isNotModified());
+
+        Mockito.verify(lokaalService, Mockito.times(1)).findById(anyLong());
+
+        mockMvc.perform(get("/api/lokaal/2/capaciteit")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .with(user("user").roles("USER")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getVrijeLokalen_GeeftLokalenMetCapaciteit() throws Exception {
+        Lokaal lokaal = new Lokaal();
+        lokaal.setId(2L);
+        lokaal.setNaam("B202");
+        lokaal.setCapaciteit(20);
+        Mockito.when(lokaalService.findVrij(eq(LocalDateTime.of(2025, 6, 10, 10, 0)),
+                eq(LocalDateTime.of(2025, 6, 10, 11, 0)), eq(15))).thenReturn(List.of(lokaal));
+
+        mockMvc.perform(get("/api/lokaal/vrij")
+                .param("van", "2025-06-10T10:00")
+                .param("tot", "2025-06-10T11:00")
+                .param("minCapaciteit", "15")
+                .with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].naam").value("B202"))
+                .andExpect(jsonPath("$[0].capaciteit").value(20));
+    }
 }
@@ -0,0 +1,54 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheus_BevatServiceEnRenderTimers() throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus")
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_seconds_count{class=\"service.EventServiceImpl\"")))
+                .andExpect(content().string(containsString("weergave_render_seconds_count{exception=\"none\",view=\"events\"}")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")));
+    }
+
+    @Test
+    void prometheus_BevatCacheStatistieken() throws Exception {
+        mockMvc.perform(get("/api/events").param("datum", "2025-06-10")
+                .with(user("user").roles("USER"))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus")
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hibernate_second_level_cache_requests_total{")))
+                .andExpect(content().string(containsString("region=\"events\",result=\"miss\"")))
+                .andExpect(content().string(containsString("hibernate_cache_query_requests_total{")));
+    }
+
+    @Test
+    void prometheus_NietVoorGewoneGebruiker() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                .with(user("user").roles("USER")))
+                .andExpect(status().is4xxClientError());
+    }
+}
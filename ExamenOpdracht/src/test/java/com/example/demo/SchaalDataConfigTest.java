@@ -0,0 +1,58 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Eigen in-memory database, zodat de gegenereerde data de andere testcontexten niet raakt.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schaaltest;MODE=MySQL",
+        "schaaltest.lokalen=20",
+        "schaaltest.events=3000",
+        "schaaltest.users=500",
+        "schaaltest.blok-grootte=700"})
+@ActiveProfiles("schaaltest")
+class SchaalDataConfigTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void genereert_AantallenBovenopVasteData() {
+        assertEquals(22, telling("SELECT COUNT(*) FROM lokalen"));
+        assertEquals(3002, telling("SELECT COUNT(*) FROM events"));
+        assertEquals(502, telling("SELECT COUNT(*) FROM users"));
+        assertEquals(0, telling("SELECT COUNT(*) FROM events WHERE datum_tijd < '2025-06-01' OR datum_tijd >= '2025-07-01'"));
+    }
+
+    @Test
+    void genereert_EenTotDrieSprekersPerEvent() {
+        assertEquals(0, telling("SELECT COUNT(*) FROM events e WHERE "
+                + "(SELECT COUNT(*) FROM event_sprekers s WHERE s.event_id = e.id) NOT BETWEEN 1 AND 3"));
+        assertTrue(telling("SELECT COUNT(*) FROM event_sprekers") > 4000);
+    }
+
+    @Test
+    void genereert_GeenOverlapInLokaalEnGeenDubbeleNaamPerDag() {
+        assertEquals(0, telling("SELECT COUNT(*) FROM events a JOIN events b ON a.lokaal_id = b.lokaal_id AND a.id < b.id "
+                + "AND a.datum_tijd < DATEADD(MINUTE, b.duur_minuten, b.datum_tijd) "
+                + "AND b.datum_tijd < DATEADD(MINUTE, a.duur_minuten, a.datum_tijd)"));
+        assertEquals(0, telling("SELECT COUNT(*) FROM (SELECT naam_genormaliseerd, CAST(datum_tijd AS DATE) FROM events "
+                + "GROUP BY naam_genormaliseerd, CAST(datum_tijd AS DATE) HAVING COUNT(*) > 1)"));
+    }
+
+    @Test
+    void genereert_FavorietenBinnenLimiet() {
+        assertTrue(telling("SELECT COUNT(*) FROM user_favorites") > 0);
+        assertEquals(0, telling("SELECT COUNT(*) FROM (SELECT user_id FROM user_favorites "
+                + "GROUP BY user_id HAVING COUNT(*) > 1)"));
+    }
+
+    private long telling(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "sqlstatistiek.traag.statements=0")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+public class SqlStatistiekTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void overzicht_HeaderTeltStatements() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatistiekFilter.HEADER,
+                        matchesPattern("statements=[1-9]\\d*;jdbc-ms=[\\d.]+;entiteiten=\\d+;collecties=\\d+")));
+    }
+
+    @Test
+    void details_BovenDrempelInTraagLogMetSql(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/event/1").with(user("user").roles("USER")))
+                .andExpect(status().isOk());
+
+        assertThat(output.getOut())
+                .contains("sql.traag")
+                .contains("GET /event/1 -> statements=")
+                .containsIgnoringCase("select");
+    }
+}
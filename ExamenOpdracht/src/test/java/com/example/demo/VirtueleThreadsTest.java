@@ -0,0 +1,25 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("virtueel")
+class VirtueleThreadsTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Test
+    void asyncWerkDraaitOpVirtueleThreads() throws Exception {
+        Boolean virtueel = taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+        assertTrue(virtueel);
+    }
+}
@@ -0,0 +1,91 @@
+package reactive;
+
+import domain.EventWeergave;
+import domain.LokaalWeergave;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@WebFluxTest(controllers = ReactieveApiController.class)
+@Import(ReactieveSecurityConfig.class)
+public class ReactieveApiControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactieveEventRepository eventRepository;
+
+    @Test
+    void getEventsByDate_ReturnsJsonList() {
+        EventWeergave event = new EventWeergave(1L, "TestEvent", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(10, 0), null, null);
+        Mockito.when(eventRepository.findByDatum(any(LocalDate.class))).thenReturn(Flux.just(event));
+
+        webTestClient.get().uri("/api/events?datum=2025-06-10")
+                .headers(h -> h.setBasicAuth("user", "user"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].naam").isEqualTo("TestEvent")
+                .jsonPath("$[0].lokaal.naam").isEqualTo("A101");
+    }
+
+    @Test
+    void getEventsByDate_Ndjson_StreamtElkEvent() {
+        EventWeergave eerste = new EventWeergave(1L, "Eerste", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(10, 0), null, null);
+        EventWeergave tweede = new EventWeergave(2L, "Tweede", null, List.of("Spreker"),
+                new LokaalWeergave(1L, "A101", 50), LocalDate.of(2025, 6, 10).atTime(14, 0), null, null);
+        Mockito.when(eventRepository.findByDatum(any(LocalDate.class))).thenReturn(Flux.just(eerste, tweede));
+
+        webTestClient.get().uri("/api/events?datum=2025-06-10")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .headers(h -> h.setBasicAuth("user", "user"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(EventWeergave.class).hasSize(2);
+    }
+
+    @Test
+    void getLokaalCapaciteit_ReturnsCapaciteit() {
+        Mockito.when(eventRepository.findCapaciteit(anyLong())).thenReturn(Mono.just(50));
+
+        webTestClient.get().uri("/api/lokaal/1/capaciteit")
+                .headers(h -> h.setBasicAuth("user", "user"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Integer.class).isEqualTo(50);
+    }
+
+    @Test
+    void getLokaalCapaciteit_NotFound() {
+        Mockito.when(eventRepository.findCapaciteit(anyLong())).thenReturn(Mono.empty());
+
+        webTestClient.get().uri("/api/lokaal/999/capaciteit")
+                .headers(h -> h.setBasicAuth("user", "user"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void zonderLoginGeweigerd() {
+        webTestClient.get().uri("/api/lokaal/1/capaciteit")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
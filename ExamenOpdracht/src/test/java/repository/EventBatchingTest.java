@@ -0,0 +1,98 @@
+package repository;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.Lokaal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ExamenOpdrachtApplication.class)
+@Transactional
+class EventBatchingTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventBulkRepository eventBulkRepository;
+
+    @Autowired
+    private LokaalRepository lokaalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Lokaal lokaal;
+
+    @BeforeEach
+    void setUp() {
+        lokaal = lokaalRepository.findAll().get(0);
+    }
+
+    @Test
+    void saveAll_BundeltInserts() {
+        List<Event> events = events("Batch", 120);
+        Statistics statistieken = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = statistieken.getPrepareStatementCount();
+
+        eventRepository.saveAll(events);
+        entityManager.flush();
+
+        // 120 events en 240 sprekers: per 50 één batch, plus een paar sequentie-aanroepen. Met IDENTITY 360+.
+        long gebruikt = statistieken.getPrepareStatementCount() - statements;
+        assertTrue(gebruikt < 20, gebruikt + " statements");
+        assertEquals(240, telSprekers("Batch"));
+    }
+
+    @Test
+    void voegToe_DeeltSequentieMetHibernate() {
+        List<Event> bulk = events("Bulk", 60);
+        eventBulkRepository.voegToe(bulk);
+        Event los = eventRepository.saveAndFlush(events("Los", 1).get(0));
+
+        List<Long> ids = new ArrayList<>(bulk.stream().map(Event::getId).toList());
+        ids.add(los.getId());
+        assertEquals(61, ids.stream().distinct().count());
+        assertEquals(120, telSprekers("Bulk"));
+        assertEquals("bulk 7", jdbcTemplate.queryForObject(
+                "SELECT naam_genormaliseerd FROM events WHERE id = ?", String.class, bulk.get(7).getId()));
+    }
+
+    private List<Event> events(String naam, int aantal) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < aantal; i++) {
+            Event event = Event.nieuwEvent();
+            event.setNaam(naam + " " + i);
+            event.setSprekers(new ArrayList<>(List.of("Spreker " + i, "Co-spreker")));
+            event.setLokaal(lokaal);
+            event.setDatumTijd(LocalDateTime.of(2025, 6, 20, 8, 0).plusMinutes(i));
+            events.add(event);
+        }
+        return events;
+    }
+
+    private int telSprekers(String naam) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_sprekers s JOIN events e ON e.id = s.event_id "
+                + "WHERE e.naam LIKE ?", Integer.class, naam + " %");
+    }
+}
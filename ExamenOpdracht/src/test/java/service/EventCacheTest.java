@@ -0,0 +1,151 @@
+package service;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.EventWeergave;
+import domain.Lokaal;
+import domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventBulkRepository;
+import repository.EventRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tweede-niveaucache en querycache, gemeten met de Hibernate-statistieken. Zonder {@code @Transactional}: elke
+ * serviceaanroep heeft zijn eigen sessie, zoals in de applicatie.
+ */
+@SpringBootTest(classes = ExamenOpdrachtApplication.class)
+class EventCacheTest {
+
+    private static final LocalDate DAG = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LokaalService lokaalService;
+
+    @Autowired
+    private EventBulkRepository eventBulkRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistieken;
+
+    @BeforeEach
+    void setUp() {
+        statistieken = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Eerste aanroep vult de cache (of treft ze al, na een andere test).
+        eventService.getEventsOpDatum(DAG);
+    }
+
+    @Test
+    void eventsOpDatum_TweedeAanroep_ZonderSql() {
+        long statements = statistieken.getPrepareStatementCount();
+        long treffers = statistieken.getQueryCacheHitCount();
+
+        List<EventWeergave> events = eventService.getEventsOpDatum(DAG);
+
+        assertEquals(statements, statistieken.getPrepareStatementCount());
+        assertEquals(treffers + 1, statistieken.getQueryCacheHitCount());
+        assertEquals(List.of("Spring Boot Introductie", "Microservices Architectuur"),
+                events.stream().map(EventWeergave::naam).toList());
+        assertEquals("A101", events.get(0).lokaal().naam());
+        assertFalse(events.get(0).sprekers().isEmpty());
+        assertTrue(statistieken.getDomainDataRegionStatistics("events").getHitCount() > 0);
+    }
+
+    @Test
+    void favorietToevoegen_LaatCacheStaan() {
+        User admin = userService.findByUsername("admin").orElseThrow();
+        Event event = eventService.findById(eventService.getEventsOpDatum(DAG).get(0).id());
+        try {
+            assertTrue(userService.voegFavorietToe(admin, event));
+            long treffers = statistieken.getQueryCacheHitCount();
+
+            eventService.getEventsOpDatum(DAG);
+
+            assertEquals(treffers + 1, statistieken.getQueryCacheHitCount());
+        } finally {
+            jdbcTemplate.update("DELETE FROM user_favorites WHERE user_id = ?", admin.getId());
+        }
+    }
+
+    @Test
+    void plaatsBoeken_VergeetGecachtEvent() {
+        Long id = eventService.getEventsOpDatum(DAG).get(0).id();
+        eventService.findById(id);
+        long statements = statistieken.getPrepareStatementCount();
+        eventService.findById(id);
+        assertEquals(statements, statistieken.getPrepareStatementCount());
+
+        try {
+            assertEquals(Integer.valueOf(1), transactionTemplate.execute(status -> eventRepository.boekPlaats(id)));
+
+            statements = statistieken.getPrepareStatementCount();
+            eventService.findById(id);
+            assertTrue(statistieken.getPrepareStatementCount() > statements);
+        } finally {
+            jdbcTemplate.update("UPDATE events SET ingeschreven = ingeschreven - 1 WHERE id = ?", id);
+        }
+    }
+
+    @Test
+    void opslaanEnBulkimport_VerversenQueryResultaat() {
+        Lokaal lokaal = lokaalService.findAll().stream()
+                .filter(l -> l.getNaam().equals("A101")).findFirst().orElseThrow();
+        Event opgeslagen = eventService.save(nieuwEvent("Cache via Hibernate", lokaal, 16));
+        Event geimporteerd = nieuwEvent("Cache via bulk", lokaal, 18);
+        try {
+            assertTrue(namen().contains("Cache via Hibernate"));
+
+            transactionTemplate.executeWithoutResult(status -> eventBulkRepository.voegToe(List.of(geimporteerd)));
+
+            assertTrue(namen().contains("Cache via bulk"));
+        } finally {
+            eventService.deleteById(opgeslagen.getId());
+            if (geimporteerd.getId() != null) {
+                eventService.deleteById(geimporteerd.getId());
+            }
+        }
+        assertEquals(2, namen().size());
+    }
+
+    private List<String> namen() {
+        return eventService.getEventsOpDatum(DAG).stream().map(EventWeergave::naam).toList();
+    }
+
+    private static Event nieuwEvent(String naam, Lokaal lokaal, int uur) {
+        Event event = Event.nieuwEvent();
+        event.setNaam(naam);
+        event.setSprekers(List.of("Spreker"));
+        event.setLokaal(lokaal);
+        event.setDatumTijd(DAG.atTime(uur, 0));
+        return event;
+    }
+}
@@ -0,0 +1,106 @@
+package service;
+
+import domain.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EventZoekIndexTest {
+
+    private static final LocalDateTime TIEN_UUR = LocalDateTime.of(2025, 6, 10, 10, 0);
+
+    private EventZoekIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventZoekIndex(mock(EventRepository.class));
+        index.registreer(List.of(
+                event(1L, "Spring Boot Introductie", "Introductie tot Spring Boot framework", TIEN_UUR.plusHours(4),
+                        "Jan Janssens", "Marie Curie"),
+                event(2L, "Microservices Architectuur", null, TIEN_UUR, "Pieter Peeters"),
+                event(3L, "Réactive Spring", "Webflux in de praktijk", TIEN_UUR.plusDays(1), "Sofie Janssens")));
+    }
+
+    @Test
+    void zoekt_OpNaamBeschrijvingEnSpreker() {
+        assertEquals(List.of(2L), index.zoek("microservices", null, null, 10).ids());
+        assertEquals(List.of(3L), index.zoek("webflux", null, null, 10).ids());
+        assertEquals(List.of(1L), index.zoek("curie", null, null, 10).ids());
+    }
+
+    @Test
+    void zoekt_OpPrefixZonderHoofdlettersOfAccenten() {
+        assertEquals(List.of(1L, 3L), index.zoek("SPR", null, null, 10).ids());
+        assertEquals(List.of(3L), index.zoek("reac", null, null, 10).ids());
+    }
+
+    @Test
+    void alleWoordenMoetenPassen_InProgrammavolgorde() {
+        assertEquals(List.of(1L, 3L), index.zoek("janss spring", null, null, 10).ids());
+        assertEquals(List.of(3L), index.zoek("spring sofie", null, null, 10).ids());
+        assertTrue(index.zoek("spring pieter", null, null, 10).ids().isEmpty());
+        assertTrue(index.zoek("  ,. ", null, null, 10).ids().isEmpty());
+    }
+
+    @Test
+    void limiet_GeeftEersteTreffersEnTotaal() {
+        EventZoekIndex.Treffers treffers = index.zoek("j", null, null, 1);
+
+        assertEquals(List.of(1L), treffers.ids());
+        assertEquals(2, treffers.totaal());
+    }
+
+    @Test
+    void telling_StoptBijMaximum() {
+        List<Event> veel = new ArrayList<>();
+        for (long id = 10; id < 10 + EventZoekIndex.MAX_TELLING + 5; id++) {
+            veel.add(event(id, "Sessie " + id, null, TIEN_UUR, "Tom Maes"));
+        }
+        index.registreer(veel);
+
+        EventZoekIndex.Treffers treffers = index.zoek("sessie", null, null, 3);
+
+        assertEquals(List.of(10L, 11L, 12L), treffers.ids());
+        assertEquals(EventZoekIndex.MAX_TELLING, treffers.totaal());
+        assertTrue(treffers.begrensd());
+        assertFalse(index.zoek("spring", null, null, 3).begrensd());
+    }
+
+    @Test
+    void periode_BeperktTreffers() {
+        assertEquals(List.of(1L), index.zoek("spring", TIEN_UUR, TIEN_UUR.plusDays(1), 10).ids());
+    }
+
+    @Test
+    void gewijzigdEvent_VervangtOudeTermen() {
+        index.registreer(List.of(event(2L, "Kubernetes Workshop", null, TIEN_UUR, "Pieter Peeters")));
+
+        assertTrue(index.zoek("microservices", null, null, 10).ids().isEmpty());
+        assertEquals(List.of(2L), index.zoek("kube", null, null, 10).ids());
+    }
+
+    @Test
+    void verwijderdEvent_WordtNietMeerGevonden() {
+        index.verwijder(1L);
+
+        assertEquals(List.of(3L), index.zoek("spring", null, null, 10).ids());
+        assertTrue(index.zoek("curie", null, null, 10).ids().isEmpty());
+    }
+
+    private static Event event(Long id, String naam, String beschrijving, LocalDateTime datumTijd, String... sprekers) {
+        Event event = Event.nieuwEvent();
+        event.setId(id);
+        event.setNaam(naam);
+        event.setBeschrijving(beschrijving);
+        event.setDatumTijd(datumTijd);
+        event.setSprekers(new ArrayList<>(List.of(sprekers)));
+        return event;
+    }
+}
@@ -0,0 +1,209 @@
+package service;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.Lokaal;
+import domain.User;
+import domain.User.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventRepository;
+import repository.LokaalRepository;
+import repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Eigen in-memory database: de favorieten worden echt gecommit en mogen de andere testcontexten niet raken.
+@SpringBootTest(classes = ExamenOpdrachtApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:favorieten;MODE=MySQL",
+        "favorieten.max=" + FavorietenStressTest.LIMIET})
+class FavorietenStressTest {
+
+    static final int LIMIET = 5;
+    private static final int THREADS = 32;
+
+    private static final AtomicInteger VOLGNUMMER = new AtomicInteger();
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private LokaalRepository lokaalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Event> events;
+
+    @BeforeEach
+    void setUp() {
+        events = nieuweEvents(THREADS);
+    }
+
+    @Test
+    void tegelijkToevoegen_BlijftOnderDeLimiet() throws Exception {
+        User user = nieuweUser();
+
+        int toegevoegd = tegelijk(events.size(), i -> userService.voegFavorietToe(user, events.get(i)));
+
+        assertEquals(LIMIET, toegevoegd);
+        assertEquals(LIMIET, telFavorieten(user));
+        assertEquals(LIMIET, versie(user));
+    }
+
+    @Test
+    void dubbeleKlikken_VoegenEenKeerToe() throws Exception {
+        User user = nieuweUser();
+        Event event = events.get(0);
+
+        int toegevoegd = tegelijk(20, i -> userService.voegFavorietToe(user, event));
+
+        assertEquals(1, toegevoegd);
+        assertEquals(1, telFavorieten(user));
+        assertTrue(userService.isFavoriet(user, event));
+    }
+
+    @Test
+    void toevoegenEnVerwijderenDoorElkaar_VerliestGeenWijziging() throws Exception {
+        User user = nieuweUser();
+        int perThread = 50;
+        AtomicInteger toegevoegd = new AtomicInteger();
+        AtomicInteger verwijderd = new AtomicInteger();
+
+        long start = System.nanoTime();
+        tegelijk(THREADS, t -> {
+            // Elke thread wisselt af op een eigen greep uit acht events: veel botsingen op dezelfde gebruiker.
+            for (int i = 0; i < perThread; i++) {
+                Event event = events.get((t + i) % 8);
+                if (i % 2 == 0 ? userService.voegFavorietToe(user, event) : userService.verwijderFavoriet(user, event)) {
+                    (i % 2 == 0 ? toegevoegd : verwijderd).incrementAndGet();
+                }
+            }
+            return true;
+        });
+        double seconden = (System.nanoTime() - start) / 1e9;
+        int wijzigingen = THREADS * perThread;
+        System.out.printf("Favorieten: %d wijzigingen op één gebruiker, %d threads in %.2f s, %.0f per seconde "
+                        + "(%d toegevoegd, %d verwijderd)%n",
+                wijzigingen, THREADS, seconden, wijzigingen / seconden, toegevoegd.get(), verwijderd.get());
+
+        int over = telFavorieten(user);
+        assertTrue(over <= LIMIET);
+        assertEquals(toegevoegd.get() - verwijderd.get(), over);
+        assertEquals(toegevoegd.get() + verwijderd.get(), versie(user));
+        assertEquals(over, userService.getFavorietIds(user).size());
+    }
+
+    @Test
+    void binnenLopendeTransactie_KrijgtElkePogingEenVerseStand() {
+        User user = nieuweUser();
+        TransactionTemplate buiten = new TransactionTemplate(transactionManager);
+        buiten.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        boolean toegevoegd = buiten.execute(status -> {
+            // De aanroeper legt een momentopname vast; daarna wijzigt een andere klik de favorieten.
+            userRepository.findFavorietenStand(user.getId(), events.get(0).getId()).orElseThrow();
+            assertTrue(CompletableFuture.supplyAsync(() -> userService.voegFavorietToe(user, events.get(1))).join());
+            return userService.voegFavorietToe(user, events.get(0));
+        });
+
+        assertTrue(toegevoegd);
+        assertEquals(2, telFavorieten(user));
+        assertEquals(2, versie(user));
+    }
+
+    // Start alle pogingen zo gelijk mogelijk en telt hoeveel er slaagden.
+    private int tegelijk(int aantal, Poging poging) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch startschot = new CountDownLatch(1);
+            List<Future<Boolean>> uitkomsten = new ArrayList<>(aantal);
+            for (int i = 0; i < aantal; i++) {
+                int nummer = i;
+                Callable<Boolean> taak = () -> {
+                    startschot.await();
+                    return poging.doe(nummer);
+                };
+                uitkomsten.add(threads.submit(taak));
+            }
+            startschot.countDown();
+            int gelukt = 0;
+            for (Future<Boolean> uitkomst : uitkomsten) {
+                if (uitkomst.get()) {
+                    gelukt++;
+                }
+            }
+            return gelukt;
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private interface Poging {
+        boolean doe(int nummer);
+    }
+
+    private List<Event> nieuweEvents(int aantal) {
+        int nummer = VOLGNUMMER.incrementAndGet();
+        Lokaal lokaal = new Lokaal();
+        lokaal.setNaam(String.format("F%03d", nummer));
+        lokaal.setCapaciteit(50);
+        lokaalRepository.save(lokaal);
+
+        List<Event> nieuw = new ArrayList<>(aantal);
+        for (int i = 0; i < aantal; i++) {
+            Event event = new Event();
+            event.setNaam("Favoriet " + nummer + "-" + i);
+            event.setSprekers(List.of("Jan Janssens"));
+            event.setLokaal(lokaal);
+            event.setDatumTijd(LocalDateTime.of(2025, 6, 21, 8, 0).plusMinutes(30L * i));
+            event.setBeamerCode(1234);
+            event.setBeamerCheck(1234 % 97);
+            nieuw.add(event);
+        }
+        return eventRepository.saveAll(nieuw);
+    }
+
+    private User nieuweUser() {
+        User user = new User();
+        user.setUsername("fan" + VOLGNUMMER.incrementAndGet());
+        user.setPassword("wachtwoord");
+        user.setRole(Role.USER);
+        return userRepository.save(user);
+    }
+
+    private int telFavorieten(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_favorites WHERE user_id = ?",
+                Integer.class, user.getId());
+    }
+
+    private long versie(User user) {
+        return jdbcTemplate.queryForObject("SELECT versie FROM users WHERE id = ?", Long.class, user.getId());
+    }
+}
@@ -0,0 +1,179 @@
+package service;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.InschrijvingResultaat;
+import domain.Lokaal;
+import domain.User;
+import domain.User.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.EventRepository;
+import repository.LokaalRepository;
+import repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Eigen in-memory database: de inschrijvingen worden echt gecommit en mogen de andere testcontexten niet raken.
+@SpringBootTest(classes = ExamenOpdrachtApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:inschrijvingen;MODE=MySQL")
+class InschrijvingStressTest {
+
+    private static final int CAPACITEIT = 50;
+    private static final int THREADS = 32;
+
+    private static final AtomicInteger VOLGNUMMER = new AtomicInteger();
+
+    @Autowired
+    private InschrijvingService inschrijvingService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private LokaalRepository lokaalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void ticketRun_VerkooptNooitMeerDanDeCapaciteit() throws Exception {
+        List<User> users = nieuweUsers(2_000);
+        // Opwarmen op een ander event, zodat de gemeten run niet de JIT en de eerste verbindingen betaalt.
+        Event opwarmer = nieuwEvent();
+        tegelijk(users.size(), i -> inschrijvingService.schrijfIn(users.get(i), opwarmer.getId()));
+        Event event = nieuwEvent();
+
+        long start = System.nanoTime();
+        Map<InschrijvingResultaat, Integer> resultaten = tegelijk(users.size(),
+                i -> inschrijvingService.schrijfIn(users.get(i), event.getId()));
+        double seconden = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Ticketrun: %d inschrijvingen op %d threads in %.2f s, %.0f per seconde: %s%n",
+                users.size(), THREADS, seconden, users.size() / seconden, resultaten);
+
+        assertEquals(CAPACITEIT, telInschrijvingen(opwarmer));
+        assertEquals(CAPACITEIT, resultaten.get(InschrijvingResultaat.INGESCHREVEN));
+        assertEquals(users.size() - CAPACITEIT, resultaten.get(InschrijvingResultaat.VOLZET));
+        assertEquals(CAPACITEIT, telInschrijvingen(event));
+        assertEquals(CAPACITEIT, ingeschreven(event));
+        assertEquals(0, inschrijvingService.getPlaatsen(event.getId()).vrij());
+    }
+
+    @Test
+    void voorwaardelijkeUpdate_OverboektOokZonderTellersNiet() throws Exception {
+        Event event = nieuwEvent();
+        TransactionTemplate transactie = new TransactionTemplate(transactionManager);
+
+        Map<InschrijvingResultaat, Integer> resultaten = tegelijk(300, i ->
+                transactie.execute(status -> eventRepository.boekPlaats(event.getId())) == 1
+                        ? InschrijvingResultaat.INGESCHREVEN
+                        : InschrijvingResultaat.VOLZET);
+
+        assertEquals(CAPACITEIT, resultaten.get(InschrijvingResultaat.INGESCHREVEN));
+        assertEquals(CAPACITEIT, ingeschreven(event));
+    }
+
+    @Test
+    void zelfdeGebruikerTegelijk_KrijgtEenPlaats() throws Exception {
+        Event event = nieuwEvent();
+        User user = nieuweUsers(1).get(0);
+
+        Map<InschrijvingResultaat, Integer> resultaten = tegelijk(20,
+                i -> inschrijvingService.schrijfIn(user, event.getId()));
+
+        assertEquals(1, resultaten.get(InschrijvingResultaat.INGESCHREVEN));
+        assertEquals(19, resultaten.get(InschrijvingResultaat.AL_INGESCHREVEN));
+        assertEquals(1, ingeschreven(event));
+        assertEquals(CAPACITEIT - 1, inschrijvingService.getPlaatsen(event.getId()).vrij());
+    }
+
+    // Start alle pogingen zo gelijk mogelijk en telt de resultaten.
+    private Map<InschrijvingResultaat, Integer> tegelijk(int aantal, Poging poging) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch startschot = new CountDownLatch(1);
+            List<Future<InschrijvingResultaat>> uitkomsten = new ArrayList<>(aantal);
+            for (int i = 0; i < aantal; i++) {
+                int nummer = i;
+                Callable<InschrijvingResultaat> taak = () -> {
+                    startschot.await();
+                    return poging.doe(nummer);
+                };
+                uitkomsten.add(threads.submit(taak));
+            }
+            startschot.countDown();
+            Map<InschrijvingResultaat, Integer> resultaten = new EnumMap<>(InschrijvingResultaat.class);
+            for (Future<InschrijvingResultaat> uitkomst : uitkomsten) {
+                resultaten.merge(uitkomst.get(), 1, Integer::sum);
+            }
+            return resultaten;
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private interface Poging {
+        InschrijvingResultaat doe(int nummer);
+    }
+
+    private Event nieuwEvent() {
+        int nummer = VOLGNUMMER.incrementAndGet();
+        Lokaal lokaal = new Lokaal();
+        lokaal.setNaam(String.format("S%03d", nummer));
+        lokaal.setCapaciteit(CAPACITEIT);
+        lokaalRepository.save(lokaal);
+
+        Event event = new Event();
+        event.setNaam("Ticketrun " + nummer);
+        event.setSprekers(List.of("Jan Janssens"));
+        event.setLokaal(lokaal);
+        event.setDatumTijd(LocalDateTime.of(2025, 6, 20, 10, 0));
+        event.setBeamerCode(1234);
+        event.setBeamerCheck(1234 % 97);
+        return eventRepository.save(event);
+    }
+
+    private List<User> nieuweUsers(int aantal) {
+        int nummer = VOLGNUMMER.incrementAndGet();
+        List<User> users = new ArrayList<>(aantal);
+        for (int i = 0; i < aantal; i++) {
+            User user = new User();
+            user.setUsername("bezoeker" + nummer + "-" + i);
+            user.setPassword("wachtwoord");
+            user.setRole(Role.USER);
+            users.add(user);
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private int telInschrijvingen(Event event) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_inschrijvingen WHERE event_id = ?",
+                Integer.class, event.getId());
+    }
+
+    private int ingeschreven(Event event) {
+        return jdbcTemplate.queryForObject("SELECT ingeschreven FROM events WHERE id = ?", Integer.class, event.getId());
+    }
+}
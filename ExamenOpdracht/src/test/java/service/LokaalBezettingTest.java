@@ -0,0 +1,133 @@
+package service;
+
+import domain.EventTijdslot;
+import domain.Lokaal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LokaalBezettingTest {
+
+    private static final LocalDateTime TIEN_UUR = LocalDateTime.of(2025, 6, 10, 10, 0);
+
+    private LokaalBezetting bezetting;
+
+    @BeforeEach
+    void setUp() {
+        bezetting = new LokaalBezetting(mock(EventRepository.class));
+        bezetting.registreer(new EventTijdslot(1L, 1L, TIEN_UUR, TIEN_UUR.plusHours(2)));
+    }
+
+    @Test
+    void overlappendEventInZelfdeLokaalIsConflict() {
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR.plusHours(1), TIEN_UUR.plusHours(3), null).isPresent());
+    }
+
+    @Test
+    void aansluitendEventIsGeenConflict() {
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR.plusHours(2), TIEN_UUR.plusHours(3), null).isEmpty());
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR.minusHours(1), TIEN_UUR, null).isEmpty());
+    }
+
+    @Test
+    void anderLokaalIsGeenConflict() {
+        assertTrue(bezetting.zoekConflict(2L, TIEN_UUR, TIEN_UUR.plusHours(1), null).isEmpty());
+    }
+
+    @Test
+    void bewerktEventBotstNietMetZichzelf() {
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR.plusMinutes(30), TIEN_UUR.plusHours(1), 1L).isEmpty());
+    }
+
+    @Test
+    void verplaatstEventGeeftOudLokaalVrij() {
+        bezetting.registreer(new EventTijdslot(1L, 2L, TIEN_UUR, TIEN_UUR.plusHours(2)));
+
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR, TIEN_UUR.plusHours(1), null).isEmpty());
+        assertTrue(bezetting.zoekConflict(2L, TIEN_UUR, TIEN_UUR.plusHours(1), null).isPresent());
+    }
+
+    @Test
+    void verwijderdEventGeeftLokaalVrij() {
+        bezetting.verwijder(1L);
+
+        assertTrue(bezetting.zoekConflict(1L, TIEN_UUR, TIEN_UUR.plusHours(1), null).isEmpty());
+    }
+
+    @Test
+    void eventZonderDuurBezetEnkelZijnStartminuut() {
+        bezetting.registreer(new EventTijdslot(2L, 3L, TIEN_UUR, (Integer) null));
+
+        assertTrue(bezetting.zoekConflict(3L, TIEN_UUR, EventTijdslot.eindVan(TIEN_UUR, null), null).isPresent());
+        assertTrue(bezetting.zoekConflict(3L, TIEN_UUR.plusMinutes(1), TIEN_UUR.plusMinutes(30), null).isEmpty());
+    }
+
+    @Test
+    void vrijeLokalen_SlaatBezetteLokalenOver() {
+        List<Lokaal> lokalen = List.of(lokaal(1L), lokaal(2L), lokaal(3L));
+        bezetting.registreer(new EventTijdslot(2L, 2L, TIEN_UUR.plusHours(3), TIEN_UUR.plusHours(4)));
+
+        assertEquals(List.of(2L, 3L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR, TIEN_UUR.plusHours(1))));
+        assertEquals(List.of(3L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR, TIEN_UUR.plusHours(4))));
+        assertEquals(List.of(1L, 3L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusHours(3), TIEN_UUR.plusHours(5))));
+    }
+
+    @Test
+    void vrijeLokalen_ControleertKwartierenAanDeRandExact() {
+        List<Lokaal> lokalen = List.of(lokaal(1L));
+
+        // Het event loopt tot 12:00; 12:05 tot 12:10 valt in hetzelfde kwartier als geen enkel event.
+        assertEquals(List.of(1L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusHours(2), TIEN_UUR.plusMinutes(130))));
+        assertTrue(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusMinutes(119), TIEN_UUR.plusMinutes(121)).isEmpty());
+
+        bezetting.registreer(new EventTijdslot(2L, 1L, TIEN_UUR.plusMinutes(125), TIEN_UUR.plusMinutes(140)));
+        assertEquals(List.of(1L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusHours(2), TIEN_UUR.plusMinutes(125))));
+        assertTrue(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusHours(2), TIEN_UUR.plusMinutes(126)).isEmpty());
+    }
+
+    @Test
+    void vrijeLokalen_VolgtVerwijderenEnVerplaatsen() {
+        List<Lokaal> lokalen = List.of(lokaal(1L), lokaal(2L));
+        bezetting.registreer(new EventTijdslot(2L, 1L, TIEN_UUR.plusMinutes(30), TIEN_UUR.plusMinutes(45)));
+
+        bezetting.verwijder(1L);
+        assertEquals(List.of(1L, 2L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR, TIEN_UUR.plusMinutes(30))));
+        assertEquals(List.of(2L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR, TIEN_UUR.plusHours(1))));
+
+        bezetting.registreer(new EventTijdslot(2L, 2L, TIEN_UUR.plusMinutes(30), TIEN_UUR.plusMinutes(45)));
+        assertEquals(List.of(1L), ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR, TIEN_UUR.plusHours(1))));
+    }
+
+    @Test
+    void vrijeLokalen_MetVeleLokalen() {
+        List<Lokaal> lokalen = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            lokalen.add(lokaal(id));
+            if (id % 2 == 0) {
+                bezetting.registreer(new EventTijdslot(1000 + id, id, TIEN_UUR, TIEN_UUR.plusHours(1)));
+            }
+        }
+
+        List<Long> vrij = ids(bezetting.vrijeLokalen(lokalen, TIEN_UUR.plusMinutes(15), TIEN_UUR.plusMinutes(30)));
+
+        assertEquals(99, vrij.size());
+        assertTrue(vrij.stream().allMatch(id -> id % 2 == 1 && id != 1));
+    }
+
+    private static Lokaal lokaal(Long id) {
+        Lokaal lokaal = new Lokaal();
+        lokaal.setId(id);
+        return lokaal;
+    }
+
+    private static List<Long> ids(List<Lokaal> lokalen) {
+        return lokalen.stream().map(Lokaal::getId).toList();
+    }
+}
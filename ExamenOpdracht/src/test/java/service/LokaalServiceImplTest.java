@@ -0,0 +1,98 @@
+package service;
+
+import domain.EventTijdslot;
+import domain.Lokaal;
+import exception.OngeldigePeriodeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import repository.EventRepository;
+import repository.LokaalRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LokaalServiceImplTest {
+
+    private LokaalRepository lokaalRepository;
+    private LokaalBezetting lokaalBezetting;
+    private LokaalServiceImpl lokaalService;
+
+    @BeforeEach
+    void setUp() {
+        lokaalRepository = mock(LokaalRepository.class);
+        lokaalBezetting = new LokaalBezetting(mock(EventRepository.class));
+        lokaalService = new LokaalServiceImpl(lokaalRepository, mock(ApplicationEventPublisher.class), lokaalBezetting);
+        when(lokaalRepository.findAll()).thenReturn(List.of(lokaal(1L, "A101", 50), lokaal(2L, "B202", 20)));
+    }
+
+    @Test
+    void herhaaldeLeesoperatiesRakenDeDatabankMaarEenKeer() {
+        lokaalService.findAll();
+        lokaalService.findById(1L);
+        lokaalService.bestaatNaam("A101");
+
+        verify(lokaalRepository, times(1)).findAll();
+        verifyNoMoreInteractions(lokaalRepository);
+    }
+
+    @Test
+    void bestaatNaamNegeertHoofdletters() {
+        assertTrue(lokaalService.bestaatNaam("a101"));
+        assertTrue(lokaalService.bestaatNaam("B202"));
+        assertFalse(lokaalService.bestaatNaam("C303"));
+        assertFalse(lokaalService.bestaatNaam(null));
+    }
+
+    @Test
+    void findByIdGeeftGecachtLokaal() {
+        assertEquals(20, lokaalService.findById(2L).orElseThrow().getCapaciteit());
+        assertTrue(lokaalService.findById(99L).isEmpty());
+    }
+
+    @Test
+    void saveInvalideertDeCache() {
+        assertFalse(lokaalService.bestaatNaam("C303"));
+
+        Lokaal nieuw = lokaal(3L, "C303", 30);
+        when(lokaalRepository.save(nieuw)).thenReturn(nieuw);
+        when(lokaalRepository.findAll()).thenReturn(List.of(lokaal(1L, "A101", 50), lokaal(2L, "B202", 20), nieuw));
+        lokaalService.save(nieuw);
+
+        assertTrue(lokaalService.bestaatNaam("C303"));
+        assertEquals(3, lokaalService.findAll().size());
+        verify(lokaalRepository, times(2)).findAll();
+    }
+
+    @Test
+    void findVrijGeeftVrijeLokalenMetGenoegPlaats_KleinsteEerst() {
+        LocalDateTime tienUur = LocalDateTime.of(2025, 6, 10, 10, 0);
+        when(lokaalRepository.findAll()).thenReturn(List.of(lokaal(1L, "A101", 50), lokaal(2L, "B202", 20),
+                lokaal(3L, "C303", 30), lokaal(4L, "D404", 10)));
+        lokaalBezetting.registreer(new EventTijdslot(1L, 3L, tienUur, tienUur.plusHours(1)));
+
+        List<Lokaal> vrij = lokaalService.findVrij(tienUur, tienUur.plusMinutes(30), 15);
+
+        assertEquals(List.of("B202", "A101"), vrij.stream().map(Lokaal::getNaam).toList());
+        assertEquals(4, lokaalService.findVrij(tienUur.plusHours(1), tienUur.plusHours(2), 1).size());
+    }
+
+    @Test
+    void findVrijWeigertLegePeriode() {
+        LocalDateTime tienUur = LocalDateTime.of(2025, 6, 10, 10, 0);
+
+        assertThrows(OngeldigePeriodeException.class, () -> lokaalService.findVrij(tienUur, tienUur, 1));
+        assertThrows(OngeldigePeriodeException.class, () -> lokaalService.findVrij(null, tienUur, 1));
+    }
+
+    private static Lokaal lokaal(Long id, String naam, int capaciteit) {
+        Lokaal lokaal = new Lokaal();
+        lokaal.setId(id);
+        lokaal.setNaam(naam);
+        lokaal.setCapaciteit(capaciteit);
+        return lokaal;
+    }
+}
@@ -0,0 +1,42 @@
+package service;
+
+import domain.EventPlaatsen;
+import domain.Lokaal;
+import org.junit.jupiter.api.Test;
+import repository.EventRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlaatsTellersTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final PlaatsTellers plaatsTellers = new PlaatsTellers(eventRepository);
+
+    @Test
+    void tellerWordtEenKeerGeladen() {
+        when(eventRepository.findPlaatsen(1L)).thenReturn(Optional.of(new EventPlaatsen(1L, 10, 3)));
+
+        assertSame(plaatsTellers.teller(1L).orElseThrow(), plaatsTellers.teller(1L).orElseThrow());
+        verify(eventRepository, times(1)).findPlaatsen(1L);
+    }
+
+    @Test
+    void lokaalWijzigtTijdensLaden_VerouderdeTellerBlijftNiet() {
+        // De eerste lezing ziet nog de oude capaciteit; de wijziging commit voor de teller bewaard wordt.
+        when(eventRepository.findPlaatsen(1L))
+                .thenAnswer(invocation -> {
+                    plaatsTellers.opLokaalOpgeslagen(new LokaalOpgeslagen(new Lokaal()));
+                    return Optional.of(new EventPlaatsen(1L, 1, 1));
+                })
+                .thenReturn(Optional.of(new EventPlaatsen(1L, 50, 1)));
+
+        assertEquals(0, plaatsTellers.teller(1L).orElseThrow().plaatsen().vrij());
+
+        PlaatsTellers.Teller teller = plaatsTellers.teller(1L).orElseThrow();
+        assertEquals(49, teller.plaatsen().vrij());
+        assertTrue(teller.claim());
+    }
+}
@@ -0,0 +1,75 @@
+package service;
+
+import domain.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SprekerIndexTest {
+
+    private static final LocalDateTime TIEN_UUR = LocalDateTime.of(2025, 6, 10, 10, 0);
+
+    private SprekerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SprekerIndex(mock(EventRepository.class));
+        index.voegToe(List.of(
+                event(1L, TIEN_UUR.plusHours(4), "Jan Janssens", "Marie Curie"),
+                event(2L, TIEN_UUR, "Pieter Peeters", "jan  janssens"),
+                event(3L, TIEN_UUR.plusDays(1), "JAN JANSSENS")));
+    }
+
+    @Test
+    void zoek_GeeftEventsInProgrammavolgorde() {
+        assertEquals(List.of(2L, 1L, 3L), index.zoek("Jan Janssens").orElseThrow().eventIds());
+        assertEquals(List.of(1L), index.zoek("Marie Curie").orElseThrow().eventIds());
+    }
+
+    @Test
+    void zoek_NegeertHoofdlettersEnSpaties_EnBewaartEenSchrijfwijze() {
+        SprekerIndex.Sessies sessies = index.zoek("  jan   JANSSENS ").orElseThrow();
+
+        assertEquals("Jan Janssens", sessies.spreker());
+        assertEquals(3, sessies.eventIds().size());
+    }
+
+    @Test
+    void onbekendeSpreker_GeeftNiets() {
+        assertTrue(index.zoek("Sofie Maes").isEmpty());
+        assertTrue(index.zoek(null).isEmpty());
+    }
+
+    @Test
+    void gewijzigdEvent_VerplaatstSessie() {
+        index.registreer(event(2L, TIEN_UUR.plusDays(2), "Sofie Maes", "Jan Janssens"));
+
+        assertTrue(index.zoek("Pieter Peeters").isEmpty());
+        assertEquals(List.of(2L), index.zoek("Sofie Maes").orElseThrow().eventIds());
+        assertEquals(List.of(1L, 3L, 2L), index.zoek("Jan Janssens").orElseThrow().eventIds());
+    }
+
+    @Test
+    void verwijderdEvent_VerdwijntBijAlleSprekers() {
+        index.verwijder(1L);
+
+        assertEquals(List.of(2L, 3L), index.zoek("Jan Janssens").orElseThrow().eventIds());
+        assertTrue(index.zoek("Marie Curie").isEmpty());
+    }
+
+    private static Event event(Long id, LocalDateTime datumTijd, String... sprekers) {
+        Event event = Event.nieuwEvent();
+        event.setId(id);
+        event.setNaam("Sessie " + id);
+        event.setDatumTijd(datumTijd);
+        event.setSprekers(new ArrayList<>(List.of(sprekers)));
+        return event;
+    }
+}
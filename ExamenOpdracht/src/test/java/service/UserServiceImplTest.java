@@ -0,0 +1,79 @@
+package service;
+
+import com.example.demo.ExamenOpdrachtApplication;
+import domain.Event;
+import domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import repository.EventRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Niet @Transactional: elke favorietenpoging commit in een eigen transactie, dus ruimt de test zelf op.
+@SpringBootTest(classes = ExamenOpdrachtApplication.class)
+class UserServiceImplTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private List<Event> events;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.findByUsername("user").orElseThrow();
+        events = eventRepository.findAll(Sort.by("datumTijd"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_favorites WHERE user_id = ?", user.getId());
+    }
+
+    @Test
+    void favorietToevoegenRespecteertDubbelsEnLimiet() {
+        Event eerste = events.get(0);
+        Event tweede = events.get(1);
+
+        assertFalse(userService.isFavoriet(user, eerste));
+        assertFalse(userService.isFavorietenLimietBereikt(user));
+
+        assertTrue(userService.voegFavorietToe(user, eerste));
+        assertFalse(userService.voegFavorietToe(user, eerste));
+
+        assertTrue(userService.isFavoriet(user, eerste));
+        assertTrue(userService.isFavorietenLimietBereikt(user));
+        assertFalse(userService.voegFavorietToe(user, tweede));
+        assertEquals(Set.of(eerste.getId()), userService.getFavorietIds(user));
+    }
+
+    @Test
+    void favorietVerwijderenMaaktPlaatsVrij() {
+        Event eerste = events.get(0);
+        Event tweede = events.get(1);
+
+        assertFalse(userService.verwijderFavoriet(user, eerste));
+        assertTrue(userService.voegFavorietToe(user, eerste));
+
+        assertTrue(userService.verwijderFavoriet(user, eerste));
+        assertFalse(userService.verwijderFavoriet(user, eerste));
+        assertFalse(userService.isFavoriet(user, eerste));
+        assertFalse(userService.isFavorietenLimietBereikt(user));
+        assertTrue(userService.voegFavorietToe(user, tweede));
+        assertEquals(Set.of(tweede.getId()), userService.getFavorietIds(user));
+    }
+}